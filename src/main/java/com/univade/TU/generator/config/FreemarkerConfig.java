@@ -1,17 +1,51 @@
 package com.univade.TU.generator.config;
 
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.cache.FileTemplateLoader;
+import freemarker.cache.MultiTemplateLoader;
+import freemarker.cache.StrongCacheStorage;
+import freemarker.cache.TemplateLoader;
 import freemarker.template.Configuration;
 import freemarker.template.TemplateExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
 @org.springframework.context.annotation.Configuration
 public class FreemarkerConfig {
 
+    public static final String TEMPLATE_BASE_PATH = "/templates";
+
+    private static final long DEFAULT_UPDATE_DELAY_MILLIS = 5000L;
+
     @Bean
-    public Configuration freemarkerConfiguration() {
+    public Configuration freemarkerConfiguration(@Value("${generator.templates.check-freshness:false}") boolean checkFreshness) {
+        return createConfiguration(classpathLoader(), checkFreshness);
+    }
+
+    public Configuration fileSystemConfiguration(Path templateDirectory, boolean checkFreshness) {
+        try {
+            TemplateLoader fileLoader = new FileTemplateLoader(templateDirectory.toFile());
+            return createConfiguration(new MultiTemplateLoader(new TemplateLoader[] {fileLoader, classpathLoader()}), checkFreshness);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load templates from " + templateDirectory, e);
+        }
+    }
+
+    private TemplateLoader classpathLoader() {
+        return new ClassTemplateLoader(FreemarkerConfig.class.getClassLoader(), TEMPLATE_BASE_PATH);
+    }
+
+    private Configuration createConfiguration(TemplateLoader templateLoader, boolean checkFreshness) {
         Configuration config = new Configuration(Configuration.VERSION_2_3_32);
 
-        config.setClassLoaderForTemplateLoading(getClass().getClassLoader(), "/templates");
+        config.setTemplateLoader(templateLoader);
+        config.setCacheStorage(new StrongCacheStorage());
+        config.setTemplateUpdateDelayMilliseconds(checkFreshness ? DEFAULT_UPDATE_DELAY_MILLIS : Long.MAX_VALUE);
+        config.setLocalizedLookup(false);
 
         config.setDefaultEncoding("UTF-8");
         config.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
@@ -0,0 +1,41 @@
+package com.univade.TU.generator.config;
+
+import com.univade.TU.generator.metrics.GenerationMetrics;
+import com.univade.TU.generator.metrics.MicrometerGenerationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Configuration
+public class GenerationMetricsConfig {
+
+    static final String METER_REGISTRY_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+
+    @Bean
+    @ConditionalOnMissingBean(GenerationMetrics.class)
+    public GenerationMetrics noopGenerationMetrics() {
+        return GenerationMetrics.NOOP;
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = METER_REGISTRY_CLASS)
+    static class MicrometerMetricsConfig {
+
+        @Bean(destroyMethod = "close")
+        @ConditionalOnProperty(name = "generator.metrics.enabled", havingValue = "true")
+        public MicrometerGenerationMetrics micrometerGenerationMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                       @Value("${generator.metrics.dump-file:}") String dumpFile) {
+            return new MicrometerGenerationMetrics(
+                    meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                    dumpFile.isBlank() ? null : Paths.get(dumpFile));
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.univade.TU.generator.discovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.model.BatchGenerationResult;
+import com.univade.TU.generator.model.EntityIndex;
+import com.univade.TU.generator.model.EntityIndexEntry;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import com.univade.TU.generator.service.BatchGenerationEngine;
+import com.univade.TU.generator.service.IncrementalGenerationService;
+import com.univade.TU.generator.util.MetaModelHasher;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class EntityDiscoveryService {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityDiscoveryService.class);
+
+    private final EntityMetaModelParser parser;
+    private final BatchGenerationEngine batchGenerationEngine;
+    private final Path defaultIndexFile;
+    private final ClassLoader classLoader;
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Autowired
+    public EntityDiscoveryService(EntityMetaModelParser parser,
+                                  BatchGenerationEngine batchGenerationEngine,
+                                  @Value("${generator.discovery.index:target/tu-entity-index.json}") String indexFile) {
+        this.parser = parser;
+        this.batchGenerationEngine = batchGenerationEngine;
+        this.defaultIndexFile = Paths.get(indexFile);
+        this.classLoader = EntityDiscoveryService.class.getClassLoader();
+    }
+
+    public EntityIndex scan(String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+
+        long start = System.nanoTime();
+        String classListingHash = classListingHash(basePackage);
+        List<EntityIndexEntry> entries = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            entries.add(EntityIndexEntry.builder()
+                    .className(candidate.getBeanClassName())
+                    .resource(describe(candidate))
+                    .lastModified(lastModified(candidate))
+                    .tableName(tableName(candidate))
+                    .build());
+        }
+        entries.sort(Comparator.comparing(EntityIndexEntry::getClassName));
+
+        EntityIndex index = EntityIndex.builder()
+                .basePackage(basePackage)
+                .generatorVersion(IncrementalGenerationService.GENERATOR_VERSION)
+                .classListingHash(classListingHash)
+                .scanNanos(System.nanoTime() - start)
+                .entries(entries)
+                .build();
+
+        log.info("Discovered {} entities under {} in {} ms", entries.size(), basePackage,
+                TimeUnit.NANOSECONDS.toMillis(index.getScanNanos()));
+        return index;
+    }
+
+    public EntityIndex loadOrScan(String basePackage) {
+        return loadOrScan(basePackage, defaultIndexFile, false);
+    }
+
+    public EntityIndex loadOrScan(String basePackage, Path indexFile, boolean forceRescan) {
+        if (!forceRescan) {
+            EntityIndex cached = readIndex(indexFile);
+            if (cached != null && isCurrent(cached, basePackage)) {
+                cached.setLoadedFromIndex(true);
+                return cached;
+            }
+        }
+
+        EntityIndex index = scan(basePackage);
+        writeIndex(indexFile, index);
+        return index;
+    }
+
+    public List<EntityMetaModel> discoverEntities(String basePackage) {
+        return loadEntities(loadOrScan(basePackage));
+    }
+
+    public List<EntityMetaModel> loadEntities(EntityIndex index) {
+        List<EntityMetaModel> entities = new ArrayList<>(index.getEntityCount());
+        for (String className : index.getClassNames()) {
+            entities.add(parser.parseFromAnnotations(loadClass(className)));
+        }
+        return entities;
+    }
+
+    public BatchGenerationResult generate(String basePackage) {
+        return batchGenerationEngine.generate(discoverEntities(basePackage));
+    }
+
+    public EntityIndex readIndex(Path indexFile) {
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        try {
+            return mapper.readValue(indexFile.toFile(), EntityIndex.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public void writeIndex(Path indexFile, EntityIndex index) {
+        try {
+            Path parent = indexFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            mapper.writeValue(indexFile.toFile(), index);
+        } catch (IOException e) {
+            throw TestGenerationException.fileWriteError(indexFile.toString(), e);
+        }
+    }
+
+    public Path getDefaultIndexFile() {
+        return defaultIndexFile;
+    }
+
+    private boolean isCurrent(EntityIndex index, String basePackage) {
+        if (!basePackage.equals(index.getBasePackage())
+                || !IncrementalGenerationService.GENERATOR_VERSION.equals(index.getGeneratorVersion())) {
+            return false;
+        }
+        String classListingHash = classListingHash(basePackage);
+        if (classListingHash == null || !classListingHash.equals(index.getClassListingHash())) {
+            return false;
+        }
+        DefaultResourceLoader resourceLoader = new DefaultResourceLoader(classLoader);
+        for (EntityIndexEntry entry : index.getEntries()) {
+            if (entry.getResource() == null) {
+                return false;
+            }
+            Resource resource = resourceLoader.getResource(entry.getResource());
+            try {
+                if (!resource.exists() || resource.lastModified() != entry.getLastModified()) {
+                    return false;
+                }
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String classListingHash(String basePackage) {
+        String pattern = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                + ClassUtils.convertClassNameToResourcePath(basePackage) + "/**/*.class";
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver(classLoader).getResources(pattern);
+            String[] listing = new String[resources.length];
+            for (int i = 0; i < resources.length; i++) {
+                listing[i] = resources[i].getURL() + "@" + resources[i].lastModified();
+            }
+            Arrays.sort(listing);
+            return MetaModelHasher.hash(listing);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new TestGenerationException("Indexed entity class not found: " + className, e);
+        }
+    }
+
+    private String describe(BeanDefinition candidate) {
+        Resource resource = resourceOf(candidate);
+        try {
+            return resource != null ? resource.getURL().toString() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private long lastModified(BeanDefinition candidate) {
+        Resource resource = resourceOf(candidate);
+        try {
+            return resource != null ? resource.lastModified() : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private Resource resourceOf(BeanDefinition candidate) {
+        return candidate instanceof AbstractBeanDefinition definition
+                ? definition.getResource()
+                : null;
+    }
+
+    private String tableName(BeanDefinition candidate) {
+        if (!(candidate instanceof AnnotatedBeanDefinition annotated)) {
+            return null;
+        }
+        Map<String, Object> attributes = annotated.getMetadata().getAnnotationAttributes(Table.class.getName());
+        if (attributes == null) {
+            return null;
+        }
+        Object name = attributes.get("name");
+        return name instanceof String value && !value.isEmpty() ? value : null;
+    }
+}
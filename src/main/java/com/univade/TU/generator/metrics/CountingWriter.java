@@ -0,0 +1,50 @@
+package com.univade.TU.generator.metrics;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+public class CountingWriter extends FilterWriter {
+
+    private long byteCount;
+
+    public CountingWriter(Writer delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        out.write(c);
+        byteCount += utf8Length((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        out.write(cbuf, off, len);
+        for (int i = off; i < off + len; i++) {
+            byteCount += utf8Length(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        out.write(str, off, len);
+        for (int i = off; i < off + len; i++) {
+            byteCount += utf8Length(str.charAt(i));
+        }
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    private static int utf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800 || Character.isSurrogate(c)) {
+            return 2;
+        }
+        return 3;
+    }
+}
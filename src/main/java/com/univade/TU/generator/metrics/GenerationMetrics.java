@@ -0,0 +1,33 @@
+package com.univade.TU.generator.metrics;
+
+import java.nio.file.Path;
+
+public interface GenerationMetrics {
+
+    GenerationMetrics NOOP = new GenerationMetrics() {
+    };
+
+    default boolean isEnabled() {
+        return false;
+    }
+
+    default long start() {
+        return 0L;
+    }
+
+    default void recordRender(String templateName, long startNanos, long outputBytes) {
+    }
+
+    default void recordInclude(String templateName, String parentTemplateName, long startNanos, long outputBytes) {
+    }
+
+    default void recordDataModelBuild(String entityName, String layer, long startNanos) {
+    }
+
+    default String scrape() {
+        return "";
+    }
+
+    default void writeDump(Path dumpFile) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.univade.TU.generator.metrics;
+
+import com.univade.TU.generator.exception.TestGenerationException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class MicrometerGenerationMetrics implements GenerationMetrics, AutoCloseable {
+
+    public static final String RENDER_TIMER = "tu.generator.template.render";
+    public static final String INCLUDE_TIMER = "tu.generator.template.include";
+    public static final String OUTPUT_BYTES = "tu.generator.template.output.bytes";
+    public static final String DATA_MODEL_TIMER = "tu.generator.datamodel.build";
+
+    private static final String SHARED_LAYER = "shared";
+
+    private static final Duration HISTOGRAM_EXPIRY = Duration.ofDays(36500);
+
+    private final MeterRegistry registry;
+    private final Path dumpFile;
+    private final Map<String, Timer> renderTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> includeTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> outputSummaries = new ConcurrentHashMap<>();
+    private final Map<String, Timer> dataModelTimers = new ConcurrentHashMap<>();
+
+    public MicrometerGenerationMetrics(MeterRegistry registry, Path dumpFile) {
+        this.registry = registry;
+        this.dumpFile = dumpFile;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void recordRender(String templateName, long startNanos, long outputBytes) {
+        long elapsed = System.nanoTime() - startNanos;
+        renderTimers.computeIfAbsent(templateName, name -> Timer.builder(RENDER_TIMER)
+                        .description("Top-level template render latency")
+                        .tag("template", name)
+                        .tag("layer", layerOf(name))
+                        .publishPercentileHistogram()
+                        .distributionStatisticExpiry(HISTOGRAM_EXPIRY)
+                        .distributionStatisticBufferLength(1)
+                        .register(registry))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        outputSummary(templateName).record(outputBytes);
+    }
+
+    @Override
+    public void recordInclude(String templateName, String parentTemplateName, long startNanos, long outputBytes) {
+        long elapsed = System.nanoTime() - startNanos;
+        includeTimers.computeIfAbsent(parentTemplateName + "|" + templateName, key -> Timer.builder(INCLUDE_TIMER)
+                        .description("Included sub-template render latency")
+                        .tag("template", templateName)
+                        .tag("parent", parentTemplateName)
+                        .tag("layer", layerOf(parentTemplateName))
+                        .publishPercentileHistogram()
+                        .distributionStatisticExpiry(HISTOGRAM_EXPIRY)
+                        .distributionStatisticBufferLength(1)
+                        .register(registry))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        outputSummary(templateName).record(outputBytes);
+    }
+
+    @Override
+    public void recordDataModelBuild(String entityName, String layer, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        dataModelTimers.computeIfAbsent(entityName + "|" + layer, key -> Timer.builder(DATA_MODEL_TIMER)
+                        .description("Template data-model build time")
+                        .tag("entity", entityName)
+                        .tag("layer", layer)
+                        .register(registry))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String scrape() {
+        return PrometheusTextFormat.format(registry);
+    }
+
+    @Override
+    public void writeDump(Path target) {
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(target, scrape(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw TestGenerationException.fileWriteError(target.toString(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (dumpFile != null) {
+            writeDump(dumpFile);
+        }
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    private DistributionSummary outputSummary(String templateName) {
+        return outputSummaries.computeIfAbsent(templateName, name -> DistributionSummary.builder(OUTPUT_BYTES)
+                .description("Rendered template output size")
+                .baseUnit("bytes")
+                .tag("template", name)
+                .publishPercentileHistogram()
+                .distributionStatisticExpiry(HISTOGRAM_EXPIRY)
+                .distributionStatisticBufferLength(1)
+                .register(registry));
+    }
+
+    private static String layerOf(String templateName) {
+        int separator = templateName.indexOf('/');
+        return separator > 0 ? templateName.substring(0, separator) : SHARED_LAYER;
+    }
+}
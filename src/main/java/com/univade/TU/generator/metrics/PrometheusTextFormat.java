@@ -0,0 +1,127 @@
+package com.univade.TU.generator.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class PrometheusTextFormat {
+
+    private PrometheusTextFormat() {
+    }
+
+    public static String format(MeterRegistry registry) {
+        List<Meter> meters = registry.getMeters().stream()
+                .sorted(Comparator.comparing((Meter meter) -> meter.getId().getName())
+                        .thenComparing(meter -> meter.getId().getTags().toString()))
+                .toList();
+
+        Map<String, Family> families = new LinkedHashMap<>();
+        for (Meter meter : meters) {
+            if (meter instanceof Timer timer) {
+                String family = sanitize(meter.getId().getName()) + "_seconds";
+                writeHistogram(families, family, labels(meter), timer.takeSnapshot(), true);
+            } else if (meter instanceof DistributionSummary summary) {
+                String family = sanitize(meter.getId().getName());
+                writeHistogram(families, family, labels(meter), summary.takeSnapshot(), false);
+            } else {
+                for (Measurement measurement : meter.measure()) {
+                    String statistic = measurement.getStatistic().getTagValueRepresentation();
+                    String family = sanitize(meter.getId().getName()) + "_" + statistic.toLowerCase(Locale.ROOT);
+                    samples(families, family, "untyped").append(family)
+                            .append(braces(labels(meter))).append(' ')
+                            .append(number(measurement.getValue())).append('\n');
+                }
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        families.forEach((name, family) -> sb.append("# TYPE ").append(name).append(' ').append(family.type).append('\n')
+                .append(family.samples));
+        return sb.toString();
+    }
+
+    private static StringBuilder samples(Map<String, Family> families, String family, String type) {
+        return families.computeIfAbsent(family, name -> new Family(type)).samples;
+    }
+
+    private static void writeHistogram(Map<String, Family> families, String family, String labels,
+                                       HistogramSnapshot snapshot, boolean seconds) {
+        StringBuilder sb = samples(families, family, "histogram");
+        for (CountAtBucket bucket : snapshot.histogramCounts()) {
+            double upperBound = seconds ? bucket.bucket(TimeUnit.SECONDS) : bucket.bucket();
+            sb.append(family).append("_bucket").append(braces(join(labels, "le=\"" + number(upperBound) + "\"")))
+                    .append(' ').append(number(bucket.count())).append('\n');
+        }
+        sb.append(family).append("_bucket").append(braces(join(labels, "le=\"+Inf\"")))
+                .append(' ').append(snapshot.count()).append('\n');
+        sb.append(family).append("_count").append(braces(labels)).append(' ').append(snapshot.count()).append('\n');
+        sb.append(family).append("_sum").append(braces(labels)).append(' ')
+                .append(number(seconds ? snapshot.total(TimeUnit.SECONDS) : snapshot.total())).append('\n');
+
+        String maxFamily = family + "_max";
+        samples(families, maxFamily, "gauge").append(maxFamily).append(braces(labels)).append(' ')
+                .append(number(seconds ? snapshot.max(TimeUnit.SECONDS) : snapshot.max())).append('\n');
+    }
+
+    private static String labels(Meter meter) {
+        StringBuilder sb = new StringBuilder();
+        for (Tag tag : meter.getId().getTags()) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(sanitize(tag.getKey())).append("=\"").append(escape(tag.getValue())).append('"');
+        }
+        return sb.toString();
+    }
+
+    private static String join(String labels, String extra) {
+        return labels.isEmpty() ? extra : labels + "," + extra;
+    }
+
+    private static String braces(String labels) {
+        return labels.isEmpty() ? "" : "{" + labels + "}";
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^a-zA-Z0-9_:]", "_");
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String number(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static final class Family {
+
+        private final String type;
+        private final StringBuilder samples = new StringBuilder();
+
+        private Family(String type) {
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGenerationResult {
+
+    private String executorType;
+    private int parallelism;
+    private long wallClockNanos;
+
+    @Builder.Default
+    private List<GeneratedTestResult> results = new ArrayList<>();
+
+    @Builder.Default
+    private List<GenerationJobTiming> jobTimings = new ArrayList<>();
+
+    public int getEntityCount() {
+        return results != null ? results.size() : 0;
+    }
+
+    public int getJobCount() {
+        return jobTimings != null ? jobTimings.size() : 0;
+    }
+
+    public long getWallClockMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(wallClockNanos);
+    }
+
+    public long getTotalJobMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(jobTimings.stream()
+                .mapToLong(GenerationJobTiming::getDurationNanos)
+                .sum());
+    }
+
+    public List<GenerationJobTiming> getSlowestJobs(int limit) {
+        return jobTimings.stream()
+                .sorted(Comparator.comparingLong(GenerationJobTiming::getDurationNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public String getSummary() {
+        return "Generated " + getEntityCount() + " entities in " + getJobCount() + " jobs using " +
+               executorType + " (parallelism " + parallelism + "): wall clock " + getWallClockMillis() +
+               " ms, cumulative job time " + getTotalJobMillis() + " ms";
+    }
+}
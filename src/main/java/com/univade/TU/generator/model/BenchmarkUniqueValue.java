@@ -0,0 +1,16 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkUniqueValue {
+
+    private String setterName;
+    private String expression;
+}
@@ -0,0 +1,33 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BundleGenerationResult {
+
+    private int entityCount;
+    private int maxInFlight;
+    private long durationNanos;
+
+    @Builder.Default
+    private FileWriteReport writeReport = new FileWriteReport();
+
+    private GeneratedTestResult securityConfigResult;
+
+    public long getDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    public String getSummary() {
+        return "Streamed " + entityCount + " entities (at most " + maxInFlight + " in flight) in " +
+               getDurationMillis() + " ms; " + writeReport.getSummary();
+    }
+}
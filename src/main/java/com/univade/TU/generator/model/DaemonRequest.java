@@ -0,0 +1,34 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DaemonRequest {
+
+    public static final String PING = "ping";
+    public static final String GENERATE = "generate";
+    public static final String STATS = "stats";
+    public static final String INVALIDATE = "invalidate";
+    public static final String SHUTDOWN = "shutdown";
+
+    private String command;
+    private String token;
+
+    @Builder.Default
+    private List<String> metaModels = new ArrayList<>();
+
+    private String basePackage;
+    private String profile;
+
+    @Builder.Default
+    private boolean incremental = true;
+}
@@ -0,0 +1,52 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DaemonResponse {
+
+    public static final String OK = "ok";
+    public static final String ERROR = "error";
+
+    private String status;
+    private String message;
+
+    @Builder.Default
+    private List<String> regeneratedEntities = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> unchangedEntities = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> writtenFiles = new ArrayList<>();
+
+    private int skippedFiles;
+    private long durationMillis;
+    private int cachedMetaModels;
+    private long metaModelCacheHits;
+    private long metaModelCacheMisses;
+    private int templateCount;
+
+    public static DaemonResponse ok(String message) {
+        return DaemonResponse.builder()
+                .status(OK)
+                .message(message)
+                .build();
+    }
+
+    public static DaemonResponse error(String message) {
+        return DaemonResponse.builder()
+                .status(ERROR)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.univade.TU.generator.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityIndex {
+
+    private String basePackage;
+    private String generatorVersion;
+    private String classListingHash;
+    private long scanNanos;
+
+    @Builder.Default
+    private List<EntityIndexEntry> entries = new ArrayList<>();
+
+    @JsonIgnore
+    private boolean loadedFromIndex;
+
+    @JsonIgnore
+    public List<String> getClassNames() {
+        return entries.stream().map(EntityIndexEntry::getClassName).toList();
+    }
+
+    @JsonIgnore
+    public int getEntityCount() {
+        return entries != null ? entries.size() : 0;
+    }
+}
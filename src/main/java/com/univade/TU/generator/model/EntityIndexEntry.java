@@ -0,0 +1,18 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityIndexEntry {
+
+    private String className;
+    private String resource;
+    private long lastModified;
+    private String tableName;
+}
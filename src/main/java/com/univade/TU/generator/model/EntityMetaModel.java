@@ -32,6 +32,10 @@ public class EntityMetaModel {
     @Builder.Default
     private List<SecurityRuleMetaModel> securityRules = new ArrayList<>();
 
+    public FrozenEntityMetaModel freeze() {
+        return FrozenEntityMetaModel.of(this);
+    }
+
     public String getNameCapitalized() {
         if (name == null || name.isEmpty()) {
             return "";
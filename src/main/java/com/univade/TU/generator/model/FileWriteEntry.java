@@ -0,0 +1,23 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileWriteEntry {
+
+    private Path path;
+    private boolean written;
+    private long bytes;
+
+    public boolean isSkipped() {
+        return !written;
+    }
+}
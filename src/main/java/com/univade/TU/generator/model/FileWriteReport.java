@@ -0,0 +1,57 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileWriteReport {
+
+    @Builder.Default
+    private List<FileWriteEntry> entries = new ArrayList<>();
+
+    public void addEntry(FileWriteEntry entry) {
+        if (entries == null) {
+            entries = new ArrayList<>();
+        }
+        entries.add(entry);
+    }
+
+    public FileWriteReport merge(FileWriteReport other) {
+        if (other != null && other.getEntries() != null) {
+            other.getEntries().forEach(this::addEntry);
+        }
+        return this;
+    }
+
+    public int getWrittenCount() {
+        return (int) entries.stream().filter(FileWriteEntry::isWritten).count();
+    }
+
+    public int getSkippedCount() {
+        return (int) entries.stream().filter(FileWriteEntry::isSkipped).count();
+    }
+
+    public long getBytesWritten() {
+        return entries.stream()
+                .filter(FileWriteEntry::isWritten)
+                .mapToLong(FileWriteEntry::getBytes)
+                .sum();
+    }
+
+    public List<FileWriteEntry> getWrittenEntries() {
+        return entries.stream().filter(FileWriteEntry::isWritten).toList();
+    }
+
+    public String getSummary() {
+        return getWrittenCount() + " files written (" + getBytesWritten() + " bytes), " +
+               getSkippedCount() + " unchanged files skipped";
+    }
+}
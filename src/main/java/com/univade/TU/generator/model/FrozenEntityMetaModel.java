@@ -0,0 +1,313 @@
+package com.univade.TU.generator.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public final class FrozenEntityMetaModel extends EntityMetaModel {
+
+    private final String nameCapitalized;
+    private final String nameLowerCase;
+    private final String variableName;
+    private final String repositoryName;
+    private final String testClassName;
+    private final String serviceName;
+    private final String serviceTestClassName;
+    private final String controllerName;
+    private final String controllerTestClassName;
+    private final String dtoClassName;
+    private final String builderClassName;
+    private final String fullyQualifiedName;
+    private final String pluralName;
+    private final String pluralNameCapitalized;
+    private final String tableNameOrDefault;
+
+    private final AttributeMetaModel primaryKeyAttribute;
+    private final List<AttributeMetaModel> nonPrimaryKeyAttributes;
+    private final List<AttributeMetaModel> requiredAttributes;
+    private final List<AttributeMetaModel> uniqueAttributes;
+    private final List<AttributeMetaModel> stringAttributes;
+    private final List<AttributeMetaModel> numericAttributes;
+    private final List<AttributeMetaModel> enumAttributes;
+    private final List<RelationshipMetaModel> ownerRelationships;
+    private final List<RelationshipMetaModel> collectionRelationships;
+    private final List<RelationshipMetaModel> requiredRelationships;
+    private final List<String> allSecurityRoles;
+    private final List<SecurityRuleMetaModel> securityRulesForBasePath;
+
+    private final boolean hasRelationships;
+    private final boolean hasValidations;
+    private final boolean hasSecurityRules;
+
+    private final Map<String, Object> derivedValues = new ConcurrentHashMap<>();
+
+    private FrozenEntityMetaModel(EntityMetaModel source) {
+        super(source.getName(),
+                source.getPackageName(),
+                source.getTableName(),
+                source.isAuditable(),
+                freezeList(source.getAttributes()),
+                freezeList(source.getRelationships()),
+                freezeList(source.getValidations()),
+                freezeList(source.getSecurityRules()));
+
+        this.nameCapitalized = super.getNameCapitalized();
+        this.nameLowerCase = super.getNameLowerCase();
+        this.variableName = super.getVariableName();
+        this.repositoryName = super.getRepositoryName();
+        this.testClassName = super.getTestClassName();
+        this.serviceName = super.getServiceName();
+        this.serviceTestClassName = super.getServiceTestClassName();
+        this.controllerName = super.getControllerName();
+        this.controllerTestClassName = super.getControllerTestClassName();
+        this.dtoClassName = super.getDtoClassName();
+        this.builderClassName = super.getBuilderClassName();
+        this.fullyQualifiedName = super.getFullyQualifiedName();
+        this.pluralName = super.getPluralName();
+        this.pluralNameCapitalized = super.getPluralNameCapitalized();
+        this.tableNameOrDefault = super.getTableNameOrDefault();
+
+        this.primaryKeyAttribute = super.getPrimaryKeyAttribute();
+        this.nonPrimaryKeyAttributes = freezeList(super.getNonPrimaryKeyAttributes());
+        this.requiredAttributes = freezeList(super.getRequiredAttributes());
+        this.uniqueAttributes = freezeList(super.getUniqueAttributes());
+        this.stringAttributes = freezeList(super.getStringAttributes());
+        this.numericAttributes = freezeList(super.getNumericAttributes());
+        this.enumAttributes = freezeList(super.getEnumAttributes());
+        this.ownerRelationships = freezeList(super.getOwnerRelationships());
+        this.collectionRelationships = freezeList(super.getCollectionRelationships());
+        this.requiredRelationships = freezeList(super.getRequiredRelationships());
+        this.allSecurityRoles = freezeList(super.getAllSecurityRoles());
+        this.securityRulesForBasePath = freezeList(super.getSecurityRulesForBasePath());
+
+        this.hasRelationships = super.hasRelationships();
+        this.hasValidations = super.hasValidations();
+        this.hasSecurityRules = super.hasSecurityRules();
+    }
+
+    public static FrozenEntityMetaModel of(EntityMetaModel source) {
+        if (source instanceof FrozenEntityMetaModel frozen) {
+            return frozen;
+        }
+        return new FrozenEntityMetaModel(source);
+    }
+
+    private static <T> List<T> freezeList(List<T> list) {
+        return list != null ? Collections.unmodifiableList(new ArrayList<>(list)) : List.of();
+    }
+
+    @Override
+    public FrozenEntityMetaModel freeze() {
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T derive(String key, Function<? super FrozenEntityMetaModel, T> computation) {
+        Object value = derivedValues.get(key);
+        if (value == null) {
+            T computed = computation.apply(this);
+            value = derivedValues.putIfAbsent(key, computed);
+            if (value == null) {
+                value = computed;
+            }
+        }
+        return (T) value;
+    }
+
+    @Override
+    public String getNameCapitalized() {
+        return nameCapitalized;
+    }
+
+    @Override
+    public String getNameLowerCase() {
+        return nameLowerCase;
+    }
+
+    @Override
+    public String getVariableName() {
+        return variableName;
+    }
+
+    @Override
+    public String getRepositoryName() {
+        return repositoryName;
+    }
+
+    @Override
+    public String getTestClassName() {
+        return testClassName;
+    }
+
+    @Override
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    @Override
+    public String getServiceTestClassName() {
+        return serviceTestClassName;
+    }
+
+    @Override
+    public String getControllerName() {
+        return controllerName;
+    }
+
+    @Override
+    public String getControllerTestClassName() {
+        return controllerTestClassName;
+    }
+
+    @Override
+    public String getDtoClassName() {
+        return dtoClassName;
+    }
+
+    @Override
+    public String getBuilderClassName() {
+        return builderClassName;
+    }
+
+    @Override
+    public String getFullyQualifiedName() {
+        return fullyQualifiedName;
+    }
+
+    @Override
+    public AttributeMetaModel getPrimaryKeyAttribute() {
+        return primaryKeyAttribute;
+    }
+
+    @Override
+    public List<AttributeMetaModel> getNonPrimaryKeyAttributes() {
+        return nonPrimaryKeyAttributes;
+    }
+
+    @Override
+    public List<AttributeMetaModel> getRequiredAttributes() {
+        return requiredAttributes;
+    }
+
+    @Override
+    public List<AttributeMetaModel> getUniqueAttributes() {
+        return uniqueAttributes;
+    }
+
+    @Override
+    public List<AttributeMetaModel> getStringAttributes() {
+        return stringAttributes;
+    }
+
+    @Override
+    public List<AttributeMetaModel> getNumericAttributes() {
+        return numericAttributes;
+    }
+
+    @Override
+    public List<AttributeMetaModel> getEnumAttributes() {
+        return enumAttributes;
+    }
+
+    @Override
+    public List<RelationshipMetaModel> getOwnerRelationships() {
+        return ownerRelationships;
+    }
+
+    @Override
+    public List<RelationshipMetaModel> getCollectionRelationships() {
+        return collectionRelationships;
+    }
+
+    @Override
+    public List<RelationshipMetaModel> getRequiredRelationships() {
+        return requiredRelationships;
+    }
+
+    @Override
+    public boolean hasRelationships() {
+        return hasRelationships;
+    }
+
+    @Override
+    public boolean hasValidations() {
+        return hasValidations;
+    }
+
+    @Override
+    public String getTableNameOrDefault() {
+        return tableNameOrDefault;
+    }
+
+    @Override
+    public boolean hasSecurityRules() {
+        return hasSecurityRules;
+    }
+
+    @Override
+    public List<String> getAllSecurityRoles() {
+        return allSecurityRoles;
+    }
+
+    @Override
+    public List<SecurityRuleMetaModel> getSecurityRulesForBasePath() {
+        return securityRulesForBasePath;
+    }
+
+    @Override
+    public String getPluralName() {
+        return pluralName;
+    }
+
+    @Override
+    public String getPluralNameCapitalized() {
+        return pluralNameCapitalized;
+    }
+
+    @Override
+    public void setName(String name) {
+        throw frozen();
+    }
+
+    @Override
+    public void setPackageName(String packageName) {
+        throw frozen();
+    }
+
+    @Override
+    public void setTableName(String tableName) {
+        throw frozen();
+    }
+
+    @Override
+    public void setAuditable(boolean auditable) {
+        throw frozen();
+    }
+
+    @Override
+    public void setAttributes(List<AttributeMetaModel> attributes) {
+        throw frozen();
+    }
+
+    @Override
+    public void setRelationships(List<RelationshipMetaModel> relationships) {
+        throw frozen();
+    }
+
+    @Override
+    public void setValidations(List<ValidationMetaModel> validations) {
+        throw frozen();
+    }
+
+    @Override
+    public void setSecurityRules(List<SecurityRuleMetaModel> securityRules) {
+        throw frozen();
+    }
+
+    private UnsupportedOperationException frozen() {
+        return new UnsupportedOperationException("EntityMetaModel " + getName() + " is frozen");
+    }
+}
@@ -0,0 +1,46 @@
+package com.univade.TU.generator.model;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public enum GeneratedArtifact {
+    REPOSITORY_TEST("src/test/java", "repository", "RepositoryTest.java"),
+    SERVICE_TEST("src/test/java", "service", "ServiceTest.java"),
+    CONTROLLER_TEST("src/test/java", "controller", "ControllerTest.java"),
+    CONTROLLER_INTEGRATION_TEST("src/test/java", "controller", "ControllerIntegrationTest.java"),
+    TEST_DATA_BUILDER("src/test/java", "testdata", "TestDataBuilder.java"),
+    DTO("src/main/java", "dto", "Dto.java"),
+    BENCHMARK("src/test/java", "benchmark", "Benchmark.java"),
+    LOAD_TEST("src/test/java", "loadtest", "LoadHarness.java");
+
+    private final String sourceRoot;
+    private final String subPackage;
+    private final String fileSuffix;
+
+    GeneratedArtifact(String sourceRoot, String subPackage, String fileSuffix) {
+        this.sourceRoot = sourceRoot;
+        this.subPackage = subPackage;
+        this.fileSuffix = fileSuffix;
+    }
+
+    public String getSourceRoot() {
+        return sourceRoot;
+    }
+
+    public String getSubPackage() {
+        return subPackage;
+    }
+
+    public String getFileName(EntityMetaModel entity) {
+        return entity.getName() + fileSuffix;
+    }
+
+    public Path resolveDirectory(EntityMetaModel entity) {
+        String basePackagePath = entity.getPackageName().replace(".entity", "").replace(".", "/");
+        return Paths.get(sourceRoot, basePackagePath, subPackage);
+    }
+
+    public Path resolveFile(EntityMetaModel entity) {
+        return resolveDirectory(entity).resolve(getFileName(entity));
+    }
+}
@@ -18,6 +18,7 @@ public class GeneratedTestResult {
     private String repositoryTestContent;
     private String serviceTestContent;
     private String controllerTestContent;
+    private String controllerIntegrationTestContent;
     private String serviceIntegrationTestContent;
     private String builderContent;
     private String validationTestContent;
@@ -28,10 +29,19 @@ public class GeneratedTestResult {
     private String updateDtoContent;
     private String responseDtoContent;
     private String securityConfigContent;
+    private String benchmarkContent;
+    private String loadTestContent;
+    private String repositoryTestSupportContent;
+    private String testProfileContent;
+    private String parallelTestSupportContent;
+    private String junitPlatformContent;
     
     @Builder.Default
     private List<String> generatedFiles = new ArrayList<>();
     
+    @Builder.Default
+    private List<FileWriteEntry> fileEntries = new ArrayList<>();
+
     @Builder.Default
     private List<String> errors = new ArrayList<>();
     
@@ -71,6 +81,14 @@ public class GeneratedTestResult {
         generatedFiles.add(fileName);
     }
 
+    public void addFileEntry(FileWriteEntry fileEntry) {
+        if (fileEntries == null) {
+            fileEntries = new ArrayList<>();
+        }
+        fileEntries.add(fileEntry);
+        addGeneratedFile(fileEntry.getPath().getFileName().toString());
+    }
+
     public int getGeneratedFileCount() {
         return generatedFiles != null ? generatedFiles.size() : 0;
     }
@@ -0,0 +1,29 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerationJobTiming {
+
+    private String entityName;
+    private GeneratedArtifact artifact;
+    private String threadName;
+    private long durationNanos;
+
+    public long getDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    @Override
+    public String toString() {
+        return entityName + " [" + artifact + "] " + getDurationMillis() + " ms on " + threadName;
+    }
+}
@@ -0,0 +1,7 @@
+package com.univade.TU.generator.model;
+
+public enum GenerationLayer {
+    REPOSITORY,
+    SERVICE,
+    CONTROLLER
+}
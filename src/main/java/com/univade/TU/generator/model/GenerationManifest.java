@@ -0,0 +1,26 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerationManifest {
+
+    private String generatorVersion;
+    private String securityConfigFingerprint;
+
+    @Builder.Default
+    private Map<String, String> entityFingerprints = new TreeMap<>();
+
+    public String getEntityFingerprint(String entityName) {
+        return entityFingerprints != null ? entityFingerprints.get(entityName) : null;
+    }
+}
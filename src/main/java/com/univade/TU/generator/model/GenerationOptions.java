@@ -0,0 +1,109 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerationOptions {
+
+    @Builder.Default
+    private Set<GenerationLayer> layers = EnumSet.allOf(GenerationLayer.class);
+
+    @Builder.Default
+    private boolean includeBuilder = true;
+
+    @Builder.Default
+    private boolean includeDto = false;
+
+    @Builder.Default
+    private boolean includeBenchmark = false;
+
+    @Builder.Default
+    private boolean includeLoadTest = false;
+
+    private TestProfile profile;
+
+    @Builder.Default
+    private Set<TestSuite> includedSuites = EnumSet.noneOf(TestSuite.class);
+
+    @Builder.Default
+    private Set<TestSuite> excludedSuites = EnumSet.noneOf(TestSuite.class);
+
+    public static GenerationOptions all() {
+        return GenerationOptions.builder().build();
+    }
+
+    public static GenerationOptions layers(GenerationLayer first, GenerationLayer... rest) {
+        return GenerationOptions.builder()
+                .layers(EnumSet.of(first, rest))
+                .build();
+    }
+
+    public static GenerationOptions profile(TestProfile profile) {
+        return GenerationOptions.builder()
+                .profile(profile)
+                .build();
+    }
+
+    public static GenerationOptions artifacts(Collection<GeneratedArtifact> artifacts) {
+        Set<GenerationLayer> layers = EnumSet.noneOf(GenerationLayer.class);
+        for (GeneratedArtifact artifact : artifacts) {
+            switch (artifact) {
+                case REPOSITORY_TEST -> layers.add(GenerationLayer.REPOSITORY);
+                case SERVICE_TEST -> layers.add(GenerationLayer.SERVICE);
+                case CONTROLLER_TEST, CONTROLLER_INTEGRATION_TEST -> layers.add(GenerationLayer.CONTROLLER);
+                default -> {
+                }
+            }
+        }
+        return GenerationOptions.builder()
+                .layers(layers)
+                .includeBuilder(artifacts.contains(GeneratedArtifact.TEST_DATA_BUILDER))
+                .includeDto(artifacts.contains(GeneratedArtifact.DTO))
+                .includeBenchmark(artifacts.contains(GeneratedArtifact.BENCHMARK))
+                .includeLoadTest(artifacts.contains(GeneratedArtifact.LOAD_TEST))
+                .build();
+    }
+
+    public boolean includes(GenerationLayer layer) {
+        return layers != null && layers.contains(layer);
+    }
+
+    public List<GeneratedArtifact> getArtifacts() {
+        List<GeneratedArtifact> artifacts = new ArrayList<>();
+        if (includes(GenerationLayer.REPOSITORY)) {
+            artifacts.add(GeneratedArtifact.REPOSITORY_TEST);
+        }
+        if (includes(GenerationLayer.SERVICE)) {
+            artifacts.add(GeneratedArtifact.SERVICE_TEST);
+        }
+        if (includes(GenerationLayer.CONTROLLER)) {
+            artifacts.add(GeneratedArtifact.CONTROLLER_TEST);
+            artifacts.add(GeneratedArtifact.CONTROLLER_INTEGRATION_TEST);
+        }
+        if (includeBuilder) {
+            artifacts.add(GeneratedArtifact.TEST_DATA_BUILDER);
+        }
+        if (includeDto) {
+            artifacts.add(GeneratedArtifact.DTO);
+        }
+        if (includeBenchmark) {
+            artifacts.add(GeneratedArtifact.BENCHMARK);
+        }
+        if (includeLoadTest) {
+            artifacts.add(GeneratedArtifact.LOAD_TEST);
+        }
+        return artifacts;
+    }
+}
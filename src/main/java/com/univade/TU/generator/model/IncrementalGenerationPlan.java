@@ -0,0 +1,38 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncrementalGenerationPlan {
+
+    private GenerationManifest manifest;
+    private boolean securityConfigStale;
+
+    @Builder.Default
+    private List<EntityMetaModel> staleEntities = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> unchangedEntities = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> deferredEntities = new ArrayList<>();
+
+    public boolean hasWork() {
+        return securityConfigStale || !staleEntities.isEmpty();
+    }
+
+    public String getSummary() {
+        return staleEntities.size() + " entities to regenerate, " + unchangedEntities.size() +
+               " unchanged, " + (deferredEntities.isEmpty() ? "" : deferredEntities.size() + " deferred, ") +
+               "security config " + (securityConfigStale ? "stale" : "unchanged");
+    }
+}
@@ -0,0 +1,32 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncrementalGenerationResult {
+
+    private IncrementalGenerationPlan plan;
+    private BatchGenerationResult batchResult;
+    private GeneratedTestResult securityConfigResult;
+    private FileWriteReport writeReport;
+
+    public int getRegeneratedEntityCount() {
+        return batchResult != null ? batchResult.getEntityCount() : 0;
+    }
+
+    public int getSkippedEntityCount() {
+        return plan != null ? plan.getUnchangedEntities().size() : 0;
+    }
+
+    public String getSummary() {
+        return "Regenerated " + getRegeneratedEntityCount() + " entities, skipped " + getSkippedEntityCount() +
+               (securityConfigResult != null ? ", regenerated TestSecurityConfig" : "") +
+               (writeReport != null ? "; " + writeReport.getSummary() : "");
+    }
+}
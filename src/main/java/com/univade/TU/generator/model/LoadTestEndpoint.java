@@ -0,0 +1,25 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestEndpoint {
+
+    private String name;
+    private String httpMethod;
+    private String path;
+    private int weight;
+    private boolean requiresBody;
+    private boolean requiresId;
+    private boolean consumesId;
+
+    public String getConstantName() {
+        return name.toUpperCase();
+    }
+}
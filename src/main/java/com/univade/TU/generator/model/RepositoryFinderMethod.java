@@ -0,0 +1,26 @@
+package com.univade.TU.generator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepositoryFinderMethod {
+
+    private String name;
+    private String benchmarkName;
+
+    @Builder.Default
+    private List<String> arguments = new ArrayList<>();
+
+    public String getArgumentList() {
+        return String.join(", ", arguments);
+    }
+}
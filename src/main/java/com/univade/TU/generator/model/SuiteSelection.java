@@ -0,0 +1,43 @@
+package com.univade.TU.generator.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+public final class SuiteSelection {
+
+    public static final SuiteSelection ALL = new SuiteSelection(EnumSet.allOf(TestSuite.class));
+
+    private final Set<TestSuite> enabledSuites;
+
+    private SuiteSelection(Set<TestSuite> enabledSuites) {
+        this.enabledSuites = Collections.unmodifiableSet(enabledSuites);
+    }
+
+    public static SuiteSelection of(Collection<TestSuite> includedSuites, Collection<TestSuite> excludedSuites) {
+        EnumSet<TestSuite> enabled = includedSuites == null || includedSuites.isEmpty()
+                ? EnumSet.allOf(TestSuite.class)
+                : EnumSet.copyOf(includedSuites);
+        if (excludedSuites != null) {
+            enabled.removeAll(excludedSuites);
+        }
+        return enabled.size() == TestSuite.values().length ? ALL : new SuiteSelection(enabled);
+    }
+
+    public boolean enabled(String suiteName) {
+        return enabledSuites.contains(TestSuite.valueOf(suiteName));
+    }
+
+    public boolean isEnabled(TestSuite suite) {
+        return enabledSuites.contains(suite);
+    }
+
+    public boolean anyEnabled(GenerationLayer layer) {
+        return enabledSuites.stream().anyMatch(suite -> suite.getLayer() == layer);
+    }
+
+    public Set<TestSuite> getEnabledSuites() {
+        return enabledSuites;
+    }
+}
@@ -0,0 +1,43 @@
+package com.univade.TU.generator.model;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+public enum TestProfile {
+    FULL(EnumSet.allOf(TestSuite.class)),
+    CORE(EnumSet.of(
+            TestSuite.REPOSITORY_CRUD,
+            TestSuite.REPOSITORY_VALIDATION,
+            TestSuite.REPOSITORY_RELATIONSHIP,
+            TestSuite.SERVICE_CRUD,
+            TestSuite.SERVICE_BUSINESS_LOGIC,
+            TestSuite.SERVICE_VALIDATION,
+            TestSuite.SERVICE_RELATIONSHIP,
+            TestSuite.CONTROLLER_CRUD,
+            TestSuite.CONTROLLER_VALIDATION,
+            TestSuite.CONTROLLER_EXCEPTION,
+            TestSuite.CONTROLLER_SECURITY,
+            TestSuite.CONTROLLER_RELATIONSHIP)),
+    SMOKE(EnumSet.of(
+            TestSuite.REPOSITORY_CRUD,
+            TestSuite.SERVICE_CRUD,
+            TestSuite.CONTROLLER_CRUD));
+
+    private final Set<TestSuite> suites;
+
+    TestProfile(Set<TestSuite> suites) {
+        this.suites = suites;
+    }
+
+    public Set<TestSuite> getSuites() {
+        return EnumSet.copyOf(suites);
+    }
+
+    public static TestProfile from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
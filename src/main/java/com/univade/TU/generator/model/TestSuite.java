@@ -0,0 +1,44 @@
+package com.univade.TU.generator.model;
+
+public enum TestSuite {
+    REPOSITORY_CRUD(GenerationLayer.REPOSITORY, "crud-tests.ftl"),
+    REPOSITORY_VALIDATION(GenerationLayer.REPOSITORY, "validation-tests.ftl"),
+    REPOSITORY_RELATIONSHIP(GenerationLayer.REPOSITORY, "relationship-tests.ftl"),
+    REPOSITORY_PAGINATION(GenerationLayer.REPOSITORY, "pagination-tests.ftl"),
+
+    SERVICE_CRUD(GenerationLayer.SERVICE, "service-crud-tests.ftl"),
+    SERVICE_BUSINESS_LOGIC(GenerationLayer.SERVICE, "service-business-logic-tests.ftl"),
+    SERVICE_PAGINATION(GenerationLayer.SERVICE, "service-pagination-tests.ftl"),
+    SERVICE_VALIDATION(GenerationLayer.SERVICE, "service-validation-tests.ftl"),
+    SERVICE_RELATIONSHIP(GenerationLayer.SERVICE, "service-relationship-tests.ftl"),
+    SERVICE_INTEGRATION(GenerationLayer.SERVICE, "service-integration-tests.ftl"),
+
+    CONTROLLER_CRUD(GenerationLayer.CONTROLLER, "controller-crud-tests.ftl"),
+    CONTROLLER_VALIDATION(GenerationLayer.CONTROLLER, "controller-dynamic-validation-tests.ftl"),
+    CONTROLLER_EXCEPTION(GenerationLayer.CONTROLLER, "controller-exception-tests.ftl"),
+    CONTROLLER_STATUS_CODE(GenerationLayer.CONTROLLER, "controller-status-code-tests.ftl"),
+    CONTROLLER_EDGE_CASE(GenerationLayer.CONTROLLER, "controller-edge-case-tests.ftl"),
+    CONTROLLER_HTTP_METHOD(GenerationLayer.CONTROLLER, "controller-http-method-tests.ftl"),
+    CONTROLLER_JSON_STRUCTURE(GenerationLayer.CONTROLLER, "controller-json-structure-tests.ftl"),
+    CONTROLLER_HEADER_PARAM(GenerationLayer.CONTROLLER, "controller-header-param-tests.ftl"),
+    CONTROLLER_PAGINATION(GenerationLayer.CONTROLLER, "controller-pagination-tests.ftl"),
+    CONTROLLER_SWAGGER(GenerationLayer.CONTROLLER, "controller-swagger-tests.ftl"),
+    CONTROLLER_SECURITY(GenerationLayer.CONTROLLER, "controller-security-tests.ftl"),
+    CONTROLLER_RELATIONSHIP(GenerationLayer.CONTROLLER, "controller-relationship-tests.ftl");
+
+    private final GenerationLayer layer;
+    private final String templateName;
+
+    TestSuite(GenerationLayer layer, String templateName) {
+        this.layer = layer;
+        this.templateName = templateName;
+    }
+
+    public GenerationLayer getLayer() {
+        return layer;
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+}
@@ -0,0 +1,65 @@
+package com.univade.TU.generator.parser;
+
+import jakarta.persistence.Table;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Table table;
+    private final List<FieldDescriptor> fields;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        this.table = type.getAnnotation(Table.class);
+
+        Field[] declaredFields = type.getDeclaredFields();
+        List<FieldDescriptor> descriptors = new ArrayList<>(declaredFields.length);
+        for (Field field : declaredFields) {
+            descriptors.add(new FieldDescriptor(field));
+        }
+        this.fields = Collections.unmodifiableList(descriptors);
+    }
+
+    public static ClassMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    public static Optional<ClassMetadata> forName(String className) {
+        return loadClass(className).map(ClassMetadata::of);
+    }
+
+    private static Optional<Class<?>> loadClass(String className) {
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            return Optional.of(Class.forName(className, false,
+                    contextLoader != null ? contextLoader : ClassMetadata.class.getClassLoader()));
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Table getTable() {
+        return table;
+    }
+
+    public List<FieldDescriptor> getFields() {
+        return fields;
+    }
+}
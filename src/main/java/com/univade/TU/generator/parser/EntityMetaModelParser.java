@@ -8,7 +8,6 @@ import jakarta.validation.constraints.*;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -16,8 +15,17 @@ import java.util.List;
 @Component
 public class EntityMetaModelParser {
 
+    public static final String ENTITY_PACKAGE_SUFFIX = ".entity";
+
     private final ObjectMapper mapper = new ObjectMapper();
 
+    public static EntityMetaModel normalizeEntityPackage(EntityMetaModel entity) {
+        if (entity.getPackageName() != null && !entity.getPackageName().endsWith(ENTITY_PACKAGE_SUFFIX)) {
+            entity.setPackageName(entity.getPackageName() + ENTITY_PACKAGE_SUFFIX);
+        }
+        return entity;
+    }
+
     public EntityMetaModel parseFromJson(String jsonMetaModel) {
         try {
             return mapper.readValue(jsonMetaModel, EntityMetaModel.class);
@@ -33,7 +41,9 @@ public class EntityMetaModelParser {
             builder.name(entityClass.getSimpleName());
             builder.packageName(entityClass.getPackage().getName());
             
-            Table tableAnnotation = entityClass.getAnnotation(Table.class);
+            ClassMetadata metadata = ClassMetadata.of(entityClass);
+
+            Table tableAnnotation = metadata.getTable();
             if (tableAnnotation != null) {
                 builder.tableName(tableAnnotation.name());
             }
@@ -42,9 +52,8 @@ public class EntityMetaModelParser {
             List<RelationshipMetaModel> relationships = new ArrayList<>();
             List<ValidationMetaModel> validations = new ArrayList<>();
             
-            Field[] fields = entityClass.getDeclaredFields();
-            for (Field field : fields) {
-                if (isRelationshipField(field)) {
+            for (FieldDescriptor field : metadata.getFields()) {
+                if (field.isRelationship()) {
                     relationships.add(parseRelationship(field));
                 } else {
                     AttributeMetaModel attribute = parseAttribute(field);
@@ -64,13 +73,13 @@ public class EntityMetaModelParser {
         }
     }
 
-    private AttributeMetaModel parseAttribute(Field field) {
+    private AttributeMetaModel parseAttribute(FieldDescriptor field) {
         AttributeMetaModel.AttributeMetaModelBuilder builder = AttributeMetaModel.builder();
         
         builder.name(field.getName());
         builder.type(getJavaTypeString(field.getType()));
         
-        Column columnAnnotation = field.getAnnotation(Column.class);
+        Column columnAnnotation = field.getColumn();
         if (columnAnnotation != null) {
             builder.columnName(columnAnnotation.name());
             builder.nullable(columnAnnotation.nullable());
@@ -80,23 +89,23 @@ public class EntityMetaModelParser {
             }
         }
         
-        Id idAnnotation = field.getAnnotation(Id.class);
+        Id idAnnotation = field.getId();
         if (idAnnotation != null) {
             builder.primaryKey(true);
         }
         
-        GeneratedValue generatedValueAnnotation = field.getAnnotation(GeneratedValue.class);
+        GeneratedValue generatedValueAnnotation = field.getGeneratedValue();
         if (generatedValueAnnotation != null) {
             builder.generatedValue(true);
             builder.generationType(generatedValueAnnotation.strategy().name());
         }
         
-        Lob lobAnnotation = field.getAnnotation(Lob.class);
+        Lob lobAnnotation = field.getLob();
         if (lobAnnotation != null) {
             builder.lob(true);
         }
 
-        Email emailAnnotation = field.getAnnotation(Email.class);
+        Email emailAnnotation = field.getEmail();
         if (emailAnnotation != null) {
             builder.email(true);
         }
@@ -104,13 +113,13 @@ public class EntityMetaModelParser {
         return builder.build();
     }
 
-    private RelationshipMetaModel parseRelationship(Field field) {
+    private RelationshipMetaModel parseRelationship(FieldDescriptor field) {
         RelationshipMetaModel.RelationshipMetaModelBuilder builder = RelationshipMetaModel.builder();
         
         builder.name(field.getName());
         builder.targetEntity(getTargetEntityName(field));
         
-        OneToOne oneToOne = field.getAnnotation(OneToOne.class);
+        OneToOne oneToOne = field.getOneToOne();
         if (oneToOne != null) {
             builder.type("OneToOne");
             builder.mappedBy(oneToOne.mappedBy());
@@ -119,7 +128,7 @@ public class EntityMetaModelParser {
             builder.optional(oneToOne.optional());
         }
         
-        OneToMany oneToMany = field.getAnnotation(OneToMany.class);
+        OneToMany oneToMany = field.getOneToMany();
         if (oneToMany != null) {
             builder.type("OneToMany");
             builder.mappedBy(oneToMany.mappedBy());
@@ -128,7 +137,7 @@ public class EntityMetaModelParser {
             builder.orphanRemoval(oneToMany.orphanRemoval());
         }
         
-        ManyToOne manyToOne = field.getAnnotation(ManyToOne.class);
+        ManyToOne manyToOne = field.getManyToOne();
         if (manyToOne != null) {
             builder.type("ManyToOne");
             builder.cascadeType(Arrays.toString(manyToOne.cascade()));
@@ -136,7 +145,7 @@ public class EntityMetaModelParser {
             builder.optional(manyToOne.optional());
         }
         
-        ManyToMany manyToMany = field.getAnnotation(ManyToMany.class);
+        ManyToMany manyToMany = field.getManyToMany();
         if (manyToMany != null) {
             builder.type("ManyToMany");
             builder.mappedBy(manyToMany.mappedBy());
@@ -144,7 +153,7 @@ public class EntityMetaModelParser {
             builder.fetchType(manyToMany.fetch().name());
         }
         
-        JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+        JoinColumn joinColumn = field.getJoinColumn();
         if (joinColumn != null) {
             builder.joinColumn(joinColumn.name());
         }
@@ -152,10 +161,10 @@ public class EntityMetaModelParser {
         return builder.build();
     }
 
-    private List<ValidationMetaModel> parseValidations(Field field) {
+    private List<ValidationMetaModel> parseValidations(FieldDescriptor field) {
         List<ValidationMetaModel> validations = new ArrayList<>();
         
-        NotNull notNull = field.getAnnotation(NotNull.class);
+        NotNull notNull = field.getNotNull();
         if (notNull != null) {
             validations.add(ValidationMetaModel.builder()
                     .attributeName(field.getName())
@@ -164,7 +173,7 @@ public class EntityMetaModelParser {
                     .build());
         }
         
-        NotBlank notBlank = field.getAnnotation(NotBlank.class);
+        NotBlank notBlank = field.getNotBlank();
         if (notBlank != null) {
             validations.add(ValidationMetaModel.builder()
                     .attributeName(field.getName())
@@ -173,7 +182,7 @@ public class EntityMetaModelParser {
                     .build());
         }
         
-        Size size = field.getAnnotation(Size.class);
+        Size size = field.getSize();
         if (size != null) {
             validations.add(ValidationMetaModel.builder()
                     .attributeName(field.getName())
@@ -184,7 +193,7 @@ public class EntityMetaModelParser {
                     .build());
         }
         
-        Min min = field.getAnnotation(Min.class);
+        Min min = field.getMin();
         if (min != null) {
             validations.add(ValidationMetaModel.builder()
                     .attributeName(field.getName())
@@ -194,7 +203,7 @@ public class EntityMetaModelParser {
                     .build());
         }
         
-        Max max = field.getAnnotation(Max.class);
+        Max max = field.getMax();
         if (max != null) {
             validations.add(ValidationMetaModel.builder()
                     .attributeName(field.getName())
@@ -204,7 +213,7 @@ public class EntityMetaModelParser {
                     .build());
         }
         
-        Email email = field.getAnnotation(Email.class);
+        Email email = field.getEmail();
         if (email != null) {
             validations.add(ValidationMetaModel.builder()
                     .attributeName(field.getName())
@@ -216,25 +225,20 @@ public class EntityMetaModelParser {
         return validations;
     }
 
-    private boolean isRelationshipField(Field field) {
-        return field.getAnnotation(OneToOne.class) != null ||
-               field.getAnnotation(OneToMany.class) != null ||
-               field.getAnnotation(ManyToOne.class) != null ||
-               field.getAnnotation(ManyToMany.class) != null;
-    }
-
     public List<ValidationMetaModel> parseValidationsFromDtoClass(Class<?> dtoClass) {
         List<ValidationMetaModel> validations = new ArrayList<>();
 
-        Field[] fields = dtoClass.getDeclaredFields();
-        for (Field field : fields) {
+        for (FieldDescriptor field : ClassMetadata.of(dtoClass).getFields()) {
+            if (!field.hasConstraints()) {
+                continue;
+            }
             validations.addAll(parseValidations(field));
         }
 
         return validations;
     }
 
-    private String getTargetEntityName(Field field) {
+    private String getTargetEntityName(FieldDescriptor field) {
         Class<?> fieldType = field.getType();
         if (List.class.isAssignableFrom(fieldType)) {
             String genericTypeName = field.getGenericType().getTypeName();
@@ -0,0 +1,179 @@
+package com.univade.TU.generator.parser;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+
+public final class FieldDescriptor {
+
+    public enum RelationshipKind {
+        ONE_TO_ONE("OneToOne"),
+        ONE_TO_MANY("OneToMany"),
+        MANY_TO_ONE("ManyToOne"),
+        MANY_TO_MANY("ManyToMany");
+
+        private final String typeName;
+
+        RelationshipKind(String typeName) {
+            this.typeName = typeName;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+    }
+
+    private final String name;
+    private final Class<?> type;
+    private final Type genericType;
+    private final RelationshipKind relationshipKind;
+
+    private final Column column;
+    private final Id id;
+    private final GeneratedValue generatedValue;
+    private final Lob lob;
+    private final JoinColumn joinColumn;
+    private final OneToOne oneToOne;
+    private final OneToMany oneToMany;
+    private final ManyToOne manyToOne;
+    private final ManyToMany manyToMany;
+
+    private final NotNull notNull;
+    private final NotBlank notBlank;
+    private final Size size;
+    private final Min min;
+    private final Max max;
+    private final Email email;
+
+    FieldDescriptor(Field field) {
+        this.name = field.getName();
+        this.type = field.getType();
+        this.genericType = field.getGenericType();
+
+        this.column = field.getAnnotation(Column.class);
+        this.id = field.getAnnotation(Id.class);
+        this.generatedValue = field.getAnnotation(GeneratedValue.class);
+        this.lob = field.getAnnotation(Lob.class);
+        this.joinColumn = field.getAnnotation(JoinColumn.class);
+        this.oneToOne = field.getAnnotation(OneToOne.class);
+        this.oneToMany = field.getAnnotation(OneToMany.class);
+        this.manyToOne = field.getAnnotation(ManyToOne.class);
+        this.manyToMany = field.getAnnotation(ManyToMany.class);
+
+        this.notNull = field.getAnnotation(NotNull.class);
+        this.notBlank = field.getAnnotation(NotBlank.class);
+        this.size = field.getAnnotation(Size.class);
+        this.min = field.getAnnotation(Min.class);
+        this.max = field.getAnnotation(Max.class);
+        this.email = field.getAnnotation(Email.class);
+
+        this.relationshipKind = resolveRelationshipKind();
+    }
+
+    private RelationshipKind resolveRelationshipKind() {
+        if (manyToMany != null) return RelationshipKind.MANY_TO_MANY;
+        if (manyToOne != null) return RelationshipKind.MANY_TO_ONE;
+        if (oneToMany != null) return RelationshipKind.ONE_TO_MANY;
+        if (oneToOne != null) return RelationshipKind.ONE_TO_ONE;
+        return null;
+    }
+
+    public boolean isRelationship() {
+        return relationshipKind != null;
+    }
+
+    public boolean hasConstraints() {
+        return notNull != null || notBlank != null || size != null || min != null || max != null || email != null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    public RelationshipKind getRelationshipKind() {
+        return relationshipKind;
+    }
+
+    public Column getColumn() {
+        return column;
+    }
+
+    public Id getId() {
+        return id;
+    }
+
+    public GeneratedValue getGeneratedValue() {
+        return generatedValue;
+    }
+
+    public Lob getLob() {
+        return lob;
+    }
+
+    public JoinColumn getJoinColumn() {
+        return joinColumn;
+    }
+
+    public OneToOne getOneToOne() {
+        return oneToOne;
+    }
+
+    public OneToMany getOneToMany() {
+        return oneToMany;
+    }
+
+    public ManyToOne getManyToOne() {
+        return manyToOne;
+    }
+
+    public ManyToMany getManyToMany() {
+        return manyToMany;
+    }
+
+    public NotNull getNotNull() {
+        return notNull;
+    }
+
+    public NotBlank getNotBlank() {
+        return notBlank;
+    }
+
+    public Size getSize() {
+        return size;
+    }
+
+    public Min getMin() {
+        return min;
+    }
+
+    public Max getMax() {
+        return max;
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+}
@@ -0,0 +1,71 @@
+package com.univade.TU.generator.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.model.EntityMetaModel;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+@Component
+public class MetaModelBundleReader {
+
+    private static final String ENTITIES_FIELD = "entities";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonFactory jsonFactory = mapper.getFactory();
+
+    public int read(Path bundleFile, Consumer<EntityMetaModel> sink) {
+        try (FileChannel channel = FileChannel.open(bundleFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new TestGenerationException("Meta-model bundle " + bundleFile + " exceeds 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(new ByteBufferBackedInputStream(buffer), sink);
+        } catch (IOException e) {
+            throw new TestGenerationException("Unable to read meta-model bundle " + bundleFile, e);
+        }
+    }
+
+    public int read(InputStream bundle, Consumer<EntityMetaModel> sink) {
+        try (JsonParser parser = jsonFactory.createParser(bundle)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT && !advanceToEntities(parser)) {
+                sink.accept(EntityMetaModelParser.normalizeEntityPackage(mapper.readValue(parser, EntityMetaModel.class)));
+                return 1;
+            }
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new TestGenerationException("Expected an array of entity meta-models but found " + parser.currentToken());
+            }
+
+            int count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                sink.accept(EntityMetaModelParser.normalizeEntityPackage(mapper.readValue(parser, EntityMetaModel.class)));
+                count++;
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new TestGenerationException("Unexpected " + parser.currentToken() + " in meta-model bundle after " + count + " entities");
+            }
+            return count;
+        } catch (IOException e) {
+            throw TestGenerationException.jsonParsingError("meta-model bundle", e);
+        }
+    }
+
+    private boolean advanceToEntities(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME || !ENTITIES_FIELD.equals(parser.currentName())) {
+            return false;
+        }
+        return parser.nextToken() == JsonToken.START_ARRAY;
+    }
+}
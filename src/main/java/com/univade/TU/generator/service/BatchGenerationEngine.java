@@ -0,0 +1,236 @@
+package com.univade.TU.generator.service;
+
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.model.BatchGenerationResult;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.GeneratedArtifact;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.GenerationJobTiming;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.model.SuiteSelection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class BatchGenerationEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchGenerationEngine.class);
+
+    private static final boolean VIRTUAL_THREADS_AVAILABLE = virtualThreadsAvailable();
+    private static final AtomicBoolean FALLBACK_LOGGED = new AtomicBoolean();
+
+    public enum ExecutorType {
+        SERIAL,
+        FORK_JOIN,
+        VIRTUAL_THREADS;
+
+        public static ExecutorType from(String value) {
+            if (value == null || value.isBlank()) {
+                return FORK_JOIN;
+            }
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    private final TestGeneratorService testGeneratorService;
+    private final ExecutorType executorType;
+    private final int parallelism;
+
+    @Autowired
+    public BatchGenerationEngine(TestGeneratorService testGeneratorService,
+                                 @Value("${generator.batch.executor:fork-join}") String executorType,
+                                 @Value("${generator.batch.parallelism:0}") int parallelism) {
+        this.testGeneratorService = testGeneratorService;
+        this.executorType = effectiveType(ExecutorType.from(executorType));
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public BatchGenerationResult generate(List<EntityMetaModel> entities) {
+        return generate(entities, GenerationOptions.all());
+    }
+
+    public BatchGenerationResult generate(List<EntityMetaModel> entities, GenerationOptions options) {
+        return generate(entities, options, executorType, parallelism);
+    }
+
+    public BatchGenerationResult generate(List<EntityMetaModel> entities, ExecutorType type, int workers) {
+        return generate(entities, GenerationOptions.all(), type, workers);
+    }
+
+    public BatchGenerationResult generate(List<EntityMetaModel> entities, GenerationOptions options,
+                                          ExecutorType requestedType, int workers) {
+        ExecutorType type = effectiveType(requestedType);
+        if (entities == null || entities.isEmpty()) {
+            return BatchGenerationResult.builder()
+                    .executorType(type.name())
+                    .parallelism(workers)
+                    .build();
+        }
+
+        List<GeneratedArtifact> artifacts = options.getArtifacts();
+        List<GenerationJob> jobs = new ArrayList<>();
+        for (EntityMetaModel entity : entities) {
+            EntityMetaModel frozen = entity.freeze();
+            SuiteSelection suites = testGeneratorService.resolveSuites(frozen, options);
+            for (GeneratedArtifact artifact : artifacts) {
+                jobs.add(new GenerationJob(frozen, artifact, suites));
+            }
+        }
+
+        long start = System.nanoTime();
+        List<JobOutcome> outcomes = type == ExecutorType.SERIAL ? runSerially(jobs) : runConcurrently(jobs, type, workers);
+        long wallClock = System.nanoTime() - start;
+
+        BatchGenerationResult batchResult = BatchGenerationResult.builder()
+                .executorType(type.name())
+                .parallelism(type == ExecutorType.SERIAL ? 1 : workers)
+                .wallClockNanos(wallClock)
+                .build();
+
+        int artifactCount = artifacts.size();
+        for (int i = 0; i < entities.size(); i++) {
+            List<JobOutcome> entityOutcomes = outcomes.subList(i * artifactCount, (i + 1) * artifactCount);
+            batchResult.getResults().add(merge(jobs.get(i * artifactCount).entity(), entityOutcomes));
+            entityOutcomes.forEach(outcome -> batchResult.getJobTimings().add(outcome.timing()));
+        }
+
+        return batchResult;
+    }
+
+    private List<JobOutcome> runSerially(List<GenerationJob> jobs) {
+        List<JobOutcome> outcomes = new ArrayList<>(jobs.size());
+        for (GenerationJob job : jobs) {
+            outcomes.add(execute(job));
+        }
+        return outcomes;
+    }
+
+    private List<JobOutcome> runConcurrently(List<GenerationJob> jobs, ExecutorType type, int workers) {
+        ExecutorService executor = createExecutor(type, workers);
+        Semaphore permits = new Semaphore(workers);
+        try {
+            List<Callable<JobOutcome>> bounded = new ArrayList<>(jobs.size());
+            for (GenerationJob job : jobs) {
+                bounded.add(() -> {
+                    permits.acquire();
+                    try {
+                        return execute(job);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+
+            List<Future<JobOutcome>> futures = executor.invokeAll(bounded);
+            List<JobOutcome> outcomes = new ArrayList<>(futures.size());
+            for (int i = 0; i < futures.size(); i++) {
+                outcomes.add(await(futures.get(i), jobs.get(i)));
+            }
+            return outcomes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TestGenerationException("Batch generation was interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JobOutcome await(Future<JobOutcome> future, GenerationJob job) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TestGenerationException generationException) {
+                throw generationException;
+            }
+            throw new TestGenerationException("Batch generation failed for " + job.entity().getName() +
+                    " [" + job.artifact() + "]", cause);
+        }
+    }
+
+    private ExecutorService createExecutor(ExecutorType type, int workers) {
+        if (type == ExecutorType.VIRTUAL_THREADS) {
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new TestGenerationException("Unable to create a virtual-thread executor", e);
+            }
+        }
+        return new ForkJoinPool(workers);
+    }
+
+    static ExecutorType effectiveType(ExecutorType type) {
+        if (type != ExecutorType.VIRTUAL_THREADS || VIRTUAL_THREADS_AVAILABLE) {
+            return type;
+        }
+        if (FALLBACK_LOGGED.compareAndSet(false, true)) {
+            log.warn("Virtual threads are not available on Java {}; using {} instead",
+                    Runtime.version().feature(), ExecutorType.FORK_JOIN);
+        }
+        return ExecutorType.FORK_JOIN;
+    }
+
+    private static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private GeneratedTestResult merge(EntityMetaModel entity, List<JobOutcome> outcomes) {
+        GeneratedTestResult merged = GeneratedTestResult.builder()
+                .entityName(entity.getName())
+                .build();
+
+        for (JobOutcome outcome : outcomes) {
+            testGeneratorService.applyArtifact(merged, entity, outcome.timing().getArtifact(), outcome.content());
+        }
+
+        return merged;
+    }
+
+    private JobOutcome execute(GenerationJob job) {
+        long start = System.nanoTime();
+        String content = testGeneratorService.renderArtifact(job.entity(), job.artifact(), job.suites());
+        GenerationJobTiming timing = GenerationJobTiming.builder()
+                .entityName(job.entity().getName())
+                .artifact(job.artifact())
+                .threadName(Thread.currentThread().getName())
+                .durationNanos(System.nanoTime() - start)
+                .build();
+        return new JobOutcome(content, timing);
+    }
+
+    public ExecutorType getExecutorType() {
+        return executorType;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private record JobOutcome(String content, GenerationJobTiming timing) {
+    }
+
+    private record GenerationJob(EntityMetaModel entity, GeneratedArtifact artifact, SuiteSelection suites) {
+    }
+}
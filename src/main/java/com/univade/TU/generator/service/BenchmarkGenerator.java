@@ -0,0 +1,258 @@
+package com.univade.TU.generator.service;
+
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.GenerationMetrics;
+import com.univade.TU.generator.model.AttributeMetaModel;
+import com.univade.TU.generator.model.BenchmarkUniqueValue;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.RelationshipMetaModel;
+import com.univade.TU.generator.model.RepositoryFinderMethod;
+import com.univade.TU.generator.parser.ClassMetadata;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@Service
+public class BenchmarkGenerator {
+
+    private static final String TEMPLATE = "benchmark/entity-benchmark.ftl";
+    private static final Pattern DERIVED_READ_QUERY = Pattern.compile("^(find|count|exists)(All)?By[A-Z].*");
+    private static final String NEXT_SEQUENCE = "sequence.incrementAndGet()";
+    private static final int UNIQUE_DIGITS = 12;
+
+    private final TemplateRegistry templateRegistry;
+    private final EntityMetaModelParser parser;
+    private final DataModelFactory dataModelFactory;
+    private final int datasetSize;
+
+    public BenchmarkGenerator(TemplateRegistry templateRegistry, EntityMetaModelParser parser,
+                              DataModelFactory dataModelFactory) {
+        this(templateRegistry, parser, dataModelFactory, 1000);
+    }
+
+    @Autowired
+    public BenchmarkGenerator(TemplateRegistry templateRegistry,
+                              EntityMetaModelParser parser,
+                              DataModelFactory dataModelFactory,
+                              @Value("${generator.benchmark.dataset-size:1000}") int datasetSize) {
+        this.templateRegistry = templateRegistry;
+        this.parser = parser;
+        this.dataModelFactory = dataModelFactory;
+        this.datasetSize = datasetSize;
+    }
+
+    public GeneratedTestResult generateBenchmark(EntityMetaModel entity) {
+        try {
+            entity = entity.freeze();
+
+            GeneratedTestResult result = GeneratedTestResult.builder()
+                    .entityName(entity.getName())
+                    .build();
+
+            result.setBenchmarkContent(renderBenchmark(entity));
+            result.addGeneratedFile(entity.getName() + "Benchmark.java");
+
+            return result;
+        } catch (TestGenerationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TestGenerationException("Failed to generate benchmark for " + entity.getName(), e);
+        }
+    }
+
+    public String renderBenchmark(EntityMetaModel entity) {
+        StringWriter writer = new StringWriter();
+        renderBenchmark(entity, writer);
+        return writer.toString();
+    }
+
+    public void renderBenchmark(EntityMetaModel entity, Writer writer) {
+        GenerationMetrics metrics = templateRegistry.getMetrics();
+        long modelStart = metrics.start();
+        Map<String, Object> dataModel = createBenchmarkDataModel(entity);
+        metrics.recordDataModelBuild(entity.getName(), "benchmark", modelStart);
+
+        templateRegistry.render(TEMPLATE, dataModel, writer);
+    }
+
+    public GeneratedTestResult generateFromJson(String jsonMetaModel) {
+        return generateBenchmark(parser.parseFromJson(jsonMetaModel));
+    }
+
+    Map<String, Object> createBenchmarkDataModel(EntityMetaModel entity) {
+        Map<String, Object> overlay = new HashMap<>();
+        overlay.put("benchmarkPackage", dataModelFactory.basePackage(entity) + ".benchmark");
+        overlay.put("datasetSize", datasetSize);
+        overlay.put("requiredTargets", dataModelFactory.deriveList(entity, "benchmark.requiredTargets", this::requiredTargets));
+        overlay.put("finderMethods", dataModelFactory.deriveList(entity, "benchmark.finderMethods", this::discoverFinderMethods));
+        overlay.put("uniqueValues", dataModelFactory.deriveList(entity, "benchmark.uniqueValues", this::uniqueValues));
+        return dataModelFactory.layer(entity, overlay);
+    }
+
+    private List<String> requiredTargets(EntityMetaModel entity) {
+        Set<String> targets = new LinkedHashSet<>();
+        for (RelationshipMetaModel relationship : entity.getRequiredRelationships()) {
+            if (!relationship.isCollection() && !entity.getName().equals(relationship.getTargetEntity())) {
+                targets.add(relationship.getTargetEntity());
+            }
+        }
+        return new ArrayList<>(targets);
+    }
+
+    private List<BenchmarkUniqueValue> uniqueValues(EntityMetaModel entity) {
+        List<BenchmarkUniqueValue> values = new ArrayList<>();
+        for (AttributeMetaModel attribute : entity.getAttributes()) {
+            if ((!attribute.isUnique() && !attribute.isPrimaryKey()) || attribute.isGeneratedValue()) {
+                continue;
+            }
+            String expression = uniqueExpression(attribute);
+            if (expression != null) {
+                values.add(BenchmarkUniqueValue.builder()
+                        .setterName(attribute.getSetterName())
+                        .expression(expression)
+                        .build());
+            }
+        }
+        return values;
+    }
+
+    private String uniqueExpression(AttributeMetaModel attribute) {
+        if (attribute.isStringType()) {
+            if (attribute.isEmail()) {
+                return "\"benchmark\" + " + NEXT_SEQUENCE + " + \"@example.com\"";
+            }
+            int minLength = attribute.getMinLength() != null ? attribute.getMinLength() : 1;
+            int maxLength = attribute.getMaxLength() != null ? attribute.getMaxLength() : 255;
+            int width = Math.max(minLength, Math.min(maxLength, UNIQUE_DIGITS));
+            return "String.format(\"%0" + width + "d\", " + NEXT_SEQUENCE + ")";
+        }
+        return switch (attribute.getJavaType()) {
+            case "Long" -> NEXT_SEQUENCE;
+            case "Integer" -> "(int) " + NEXT_SEQUENCE;
+            default -> null;
+        };
+    }
+
+    private List<RepositoryFinderMethod> discoverFinderMethods(EntityMetaModel entity) {
+        String repositoryClassName = dataModelFactory.basePackage(entity) + ".repository." + entity.getRepositoryName();
+        Optional<ClassMetadata> repository = ClassMetadata.forName(repositoryClassName);
+        if (repository.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Method[] methods = repository.get().getType().getDeclaredMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName).thenComparingInt(Method::getParameterCount));
+
+        List<RepositoryFinderMethod> finders = new ArrayList<>();
+        Set<String> benchmarkNames = new HashSet<>();
+        for (Method method : methods) {
+            if (method.isDefault() || method.isSynthetic() || Modifier.isStatic(method.getModifiers())
+                    || method.isAnnotationPresent(Query.class)
+                    || !DERIVED_READ_QUERY.matcher(method.getName()).matches()) {
+                continue;
+            }
+            List<String> arguments = benchmarkArguments(method.getParameterTypes());
+            if (arguments != null) {
+                String benchmarkName = "repository" + Character.toUpperCase(method.getName().charAt(0))
+                        + method.getName().substring(1);
+                if (!benchmarkNames.add(benchmarkName)) {
+                    benchmarkName += arguments.contains("FIRST_PAGE") ? "Paged" : method.getParameterCount();
+                    benchmarkNames.add(benchmarkName);
+                }
+                finders.add(RepositoryFinderMethod.builder()
+                        .name(method.getName())
+                        .benchmarkName(benchmarkName)
+                        .arguments(arguments)
+                        .build());
+            }
+        }
+        return finders;
+    }
+
+    private List<String> benchmarkArguments(Class<?>[] parameterTypes) {
+        List<String> arguments = new ArrayList<>(parameterTypes.length);
+        int numericIndex = 0;
+        for (Class<?> type : parameterTypes) {
+            String argument;
+            if (isNumeric(type)) {
+                argument = numericArgument(type, numericIndex++ == 0);
+            } else {
+                argument = argumentFor(type);
+            }
+            if (argument == null) {
+                return null;
+            }
+            arguments.add(argument);
+        }
+        return arguments;
+    }
+
+    private boolean isNumeric(Class<?> type) {
+        return type == Integer.class || type == int.class || type == Long.class || type == long.class
+                || type == Double.class || type == double.class || type == BigDecimal.class;
+    }
+
+    private String numericArgument(Class<?> type, boolean lowerBound) {
+        if (type == Long.class || type == long.class) {
+            return lowerBound ? "0L" : "1000L";
+        }
+        if (type == Double.class || type == double.class) {
+            return lowerBound ? "0.0" : "1000.0";
+        }
+        if (type == BigDecimal.class) {
+            return lowerBound ? "java.math.BigDecimal.ZERO" : "java.math.BigDecimal.valueOf(1000)";
+        }
+        return lowerBound ? "0" : "1000";
+    }
+
+    private String argumentFor(Class<?> type) {
+        if (type == String.class) {
+            return "\"benchmark\"";
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return "true";
+        }
+        if (type == LocalDate.class) {
+            return "java.time.LocalDate.now()";
+        }
+        if (type == LocalDateTime.class) {
+            return "java.time.LocalDateTime.now()";
+        }
+        if (type == Pageable.class) {
+            return "FIRST_PAGE";
+        }
+        if (type == Sort.class) {
+            return "org.springframework.data.domain.Sort.unsorted()";
+        }
+        if (type.isEnum() && type.getEnumConstants().length > 0) {
+            return type.getCanonicalName() + "." + ((Enum<?>) type.getEnumConstants()[0]).name();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.univade.TU.generator.service;
+
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.model.BundleGenerationResult;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.FileWriteReport;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.parser.MetaModelBundleReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+@Service
+public class BundleGenerationService {
+
+    private final MetaModelBundleReader bundleReader;
+    private final TestGeneratorService testGeneratorService;
+    private final FileWriterService fileWriterService;
+    private final SecurityConfigGenerator securityConfigGenerator;
+    private final int parallelism;
+
+    @Autowired
+    public BundleGenerationService(MetaModelBundleReader bundleReader,
+                                   TestGeneratorService testGeneratorService,
+                                   FileWriterService fileWriterService,
+                                   SecurityConfigGenerator securityConfigGenerator,
+                                   BatchGenerationEngine batchGenerationEngine) {
+        this(bundleReader, testGeneratorService, fileWriterService, securityConfigGenerator,
+                batchGenerationEngine.getParallelism());
+    }
+
+    public BundleGenerationService(MetaModelBundleReader bundleReader,
+                                   TestGeneratorService testGeneratorService,
+                                   FileWriterService fileWriterService,
+                                   SecurityConfigGenerator securityConfigGenerator,
+                                   int parallelism) {
+        this.bundleReader = bundleReader;
+        this.testGeneratorService = testGeneratorService;
+        this.fileWriterService = fileWriterService;
+        this.securityConfigGenerator = securityConfigGenerator;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public BundleGenerationResult generate(Path bundleFile, GenerationOptions options, String basePackage) {
+        return generate(sink -> bundleReader.read(bundleFile, sink), options, basePackage);
+    }
+
+    public BundleGenerationResult generate(InputStream bundle, GenerationOptions options, String basePackage) {
+        return generate(sink -> bundleReader.read(bundle, sink), options, basePackage);
+    }
+
+    private BundleGenerationResult generate(Consumer<Consumer<EntityMetaModel>> source,
+                                            GenerationOptions options, String basePackage) {
+        long start = System.nanoTime();
+        int maxInFlight = parallelism * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        FileWriteReport writeReport = new FileWriteReport();
+        List<EntityMetaModel> securitySkeletons = new ArrayList<>();
+
+        try {
+            source.accept(entity -> {
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+                securitySkeletons.add(securitySkeleton(entity));
+                acquire(inFlight);
+                workers.execute(() -> {
+                    try {
+                        EntityMetaModel frozen = entity.freeze();
+                        FileWriteReport entityReport = fileWriterService.writeGeneratedFiles(frozen,
+                                testGeneratorService.generateAllTests(frozen, options));
+                        synchronized (writeReport) {
+                            writeReport.merge(entityReport);
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            });
+            acquire(inFlight, maxInFlight);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        GeneratedTestResult securityConfigResult = null;
+        if (!securitySkeletons.isEmpty()) {
+            String targetPackage = basePackage != null
+                    ? basePackage
+                    : securitySkeletons.get(0).getPackageName().replace(".entity", "");
+            securityConfigResult = securityConfigGenerator.generateSecurityConfig(securitySkeletons, targetPackage);
+            writeReport.merge(fileWriterService.writeGeneratedFiles(securitySkeletons.get(0), securityConfigResult));
+        }
+
+        return BundleGenerationResult.builder()
+                .entityCount(securitySkeletons.size())
+                .maxInFlight(maxInFlight)
+                .durationNanos(System.nanoTime() - start)
+                .writeReport(writeReport)
+                .securityConfigResult(securityConfigResult)
+                .build();
+    }
+
+    private EntityMetaModel securitySkeleton(EntityMetaModel entity) {
+        return EntityMetaModel.builder()
+                .name(entity.getName())
+                .packageName(entity.getPackageName())
+                .securityRules(entity.getSecurityRules())
+                .build();
+    }
+
+    private void acquire(Semaphore semaphore) {
+        acquire(semaphore, 1);
+    }
+
+    private void acquire(Semaphore semaphore, int permits) {
+        try {
+            semaphore.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TestGenerationException("Bundle generation was interrupted", e);
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+}
@@ -1,58 +1,67 @@
 package com.univade.TU.generator.service;
 
 import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.GenerationMetrics;
 import com.univade.TU.generator.model.ControllerValidationRule;
 import com.univade.TU.generator.model.DtoValidationRule;
 import com.univade.TU.generator.model.EntityMetaModel;
 import com.univade.TU.generator.model.GeneratedTestResult;
 import com.univade.TU.generator.model.SecurityRuleMetaModel;
+import com.univade.TU.generator.model.SuiteSelection;
 import com.univade.TU.generator.model.ValidationMetaModel;
+import com.univade.TU.generator.parser.ClassMetadata;
 import com.univade.TU.generator.parser.EntityMetaModelParser;
-import com.univade.TU.generator.util.TemplateUtils;
-import com.univade.TU.generator.util.TestDataGenerator;
-import freemarker.template.Configuration;
-import freemarker.template.Template;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.*;
 import java.util.Map;
 
 @Service
 public class ControllerTestGenerator {
 
-    private final Configuration freemarkerConfig;
+    private final TemplateRegistry templateRegistry;
     private final EntityMetaModelParser parser;
-    private final TemplateUtils templateUtils;
-    private final TestDataGenerator testDataGenerator;
+    private final DataModelFactory dataModelFactory;
     private final DtoGenerator dtoGenerator;
 
     @Autowired
-    public ControllerTestGenerator(@Qualifier("freemarkerConfiguration") Configuration freemarkerConfig,
+    public ControllerTestGenerator(TemplateRegistry templateRegistry,
                                    EntityMetaModelParser parser,
+                                   DataModelFactory dataModelFactory,
                                    DtoGenerator dtoGenerator) {
-        this.freemarkerConfig = freemarkerConfig;
+        this.templateRegistry = templateRegistry;
         this.parser = parser;
-        this.templateUtils = new TemplateUtils();
-        this.testDataGenerator = new TestDataGenerator();
+        this.dataModelFactory = dataModelFactory;
         this.dtoGenerator = dtoGenerator;
     }
 
     public GeneratedTestResult generateControllerTest(EntityMetaModel entity) {
         try {
+            entity = entity.freeze();
+
             GeneratedTestResult result = GeneratedTestResult.builder()
                     .entityName(entity.getName())
                     .build();
 
+            GenerationMetrics metrics = templateRegistry.getMetrics();
+            long modelStart = metrics.start();
             Map<String, Object> dataModel = createControllerDataModel(entity);
+            metrics.recordDataModelBuild(entity.getName(), "controller", modelStart);
 
-            String testContent = processTemplate("controller/controller-test.ftl", dataModel);
+            String testContent = templateRegistry.render("controller/controller-test.ftl", dataModel);
             result.setControllerTestContent(testContent);
             result.addGeneratedFile(entity.getName() + "ControllerTest.java");
 
-            String builderContent = processTemplate("test-data-builder.ftl", dataModel);
+            String integrationTestContent = templateRegistry.render("controller/controller-integration-test.ftl", dataModel);
+            result.setControllerIntegrationTestContent(integrationTestContent);
+            result.addGeneratedFile(entity.getName() + "ControllerIntegrationTest.java");
+
+            String builderContent = templateRegistry.render("test-data-builder.ftl", dataModel);
             result.setBuilderContent(builderContent);
             result.addGeneratedFile(entity.getBuilderClassName() + ".java");
 
@@ -62,6 +71,36 @@ public class ControllerTestGenerator {
         }
     }
 
+    public String renderTest(EntityMetaModel entity, SuiteSelection suites) {
+        StringWriter writer = new StringWriter();
+        renderTest(entity, suites, writer);
+        return writer.toString();
+    }
+
+    public void renderTest(EntityMetaModel entity, SuiteSelection suites, Writer writer) {
+        GenerationMetrics metrics = templateRegistry.getMetrics();
+        long modelStart = metrics.start();
+        Map<String, Object> dataModel = createControllerDataModel(entity, suites);
+        metrics.recordDataModelBuild(entity.getName(), "controller", modelStart);
+
+        templateRegistry.render("controller/controller-test.ftl", dataModel, writer);
+    }
+
+    public String renderIntegrationTest(EntityMetaModel entity, SuiteSelection suites) {
+        StringWriter writer = new StringWriter();
+        renderIntegrationTest(entity, suites, writer);
+        return writer.toString();
+    }
+
+    public void renderIntegrationTest(EntityMetaModel entity, SuiteSelection suites, Writer writer) {
+        GenerationMetrics metrics = templateRegistry.getMetrics();
+        long modelStart = metrics.start();
+        Map<String, Object> dataModel = createControllerDataModel(entity, suites);
+        metrics.recordDataModelBuild(entity.getName(), "controller", modelStart);
+
+        templateRegistry.render("controller/controller-integration-test.ftl", dataModel, writer);
+    }
+
     public GeneratedTestResult generateFromJson(String jsonMetaModel) {
         EntityMetaModel entity = parser.parseFromJson(jsonMetaModel);
         return generateControllerTest(entity);
@@ -72,28 +111,20 @@ public class ControllerTestGenerator {
         return generateControllerTest(entity);
     }
 
-    private Map<String, Object> createControllerDataModel(EntityMetaModel entity) {
-        Map<String, Object> dataModel = new HashMap<>();
-
-        dataModel.put("entity", entity);
-        dataModel.put("validationRules", buildControllerValidationRules(entity));
-        dataModel.put("securityRules", entity.getSecurityRules());
-        dataModel.put("hasSecurityRules", entity.hasSecurityRules());
-        dataModel.put("allSecurityRoles", entity.getAllSecurityRoles());
-        dataModel.put("dynamicSecurityRoles", extractAllRolesFromSecurityRules(entity));
-        dataModel.put("utils", templateUtils);
-        dataModel.put("generator", testDataGenerator);
-
-        String basePackage = entity.getPackageName().replace(".entity", "");
-        dataModel.put("packageName", entity.getPackageName());
-        dataModel.put("basePackage", basePackage);
-        dataModel.put("repositoryPackage", basePackage + ".repository");
-        dataModel.put("servicePackage", basePackage + ".service");
-        dataModel.put("controllerPackage", basePackage + ".controller");
-        dataModel.put("testPackage", basePackage + ".controller");
-        dataModel.put("builderPackage", basePackage + ".testdata");
-
-        return dataModel;
+    Map<String, Object> createControllerDataModel(EntityMetaModel entity) {
+        return createControllerDataModel(entity, dataModelFactory.suites(entity));
+    }
+
+    Map<String, Object> createControllerDataModel(EntityMetaModel entity, SuiteSelection suites) {
+        Map<String, Object> overlay = new HashMap<>();
+        overlay.put("validationRules", dataModelFactory.deriveList(entity, "controller.validationRules", this::buildControllerValidationRules));
+        overlay.put("securityRules", entity.getSecurityRules());
+        overlay.put("hasSecurityRules", entity.hasSecurityRules());
+        overlay.put("allSecurityRoles", entity.getAllSecurityRoles());
+        overlay.put("dynamicSecurityRoles", dataModelFactory.deriveList(entity, "controller.dynamicSecurityRoles", this::extractAllRolesFromSecurityRules));
+        overlay.put("testPackage", dataModelFactory.base(entity).get("controllerPackage"));
+        overlay.put("suites", suites);
+        return dataModelFactory.layer(entity, overlay);
     }
 
     private List<String> extractAllRolesFromSecurityRules(EntityMetaModel entity) {
@@ -112,16 +143,6 @@ public class ControllerTestGenerator {
         return new ArrayList<>(allRoles);
     }
 
-    private String processTemplate(String templateName, Map<String, Object> dataModel) {
-        try {
-            Template template = freemarkerConfig.getTemplate(templateName);
-            StringWriter writer = new StringWriter();
-            template.process(dataModel, writer);
-            return writer.toString();
-        } catch (Exception e) {
-            throw TestGenerationException.templateProcessingError(templateName, e);
-        }
-    }
 
     public GeneratedTestResult generateAllTests(EntityMetaModel entity) {
         return generateControllerTest(entity);
@@ -146,24 +167,23 @@ public class ControllerTestGenerator {
     }
 
     private List<DtoValidationRule> parseValidationRulesFromDtoClass(EntityMetaModel entity) {
-        try {
-            String dtoClassName = entity.getPackageName().replace(".entity", ".dto") + "." + entity.getName() + "Dto";
-            Class<?> dtoClass = Class.forName(dtoClassName);
+        String dtoClassName = entity.getPackageName().replace(".entity", ".dto") + "." + entity.getName() + "Dto";
+        Optional<ClassMetadata> dtoMetadata = ClassMetadata.forName(dtoClassName);
+        if (dtoMetadata.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-            List<ValidationMetaModel> validations = parser.parseValidationsFromDtoClass(dtoClass);
+        List<ValidationMetaModel> validations = parser.parseValidationsFromDtoClass(dtoMetadata.get().getType());
 
-            List<DtoValidationRule> dtoRules = new ArrayList<>();
-            for (ValidationMetaModel validation : validations) {
-                DtoValidationRule rule = buildDtoValidationRule(validation);
-                if (rule != null) {
-                    dtoRules.add(rule);
-                }
+        List<DtoValidationRule> dtoRules = new ArrayList<>();
+        for (ValidationMetaModel validation : validations) {
+            DtoValidationRule rule = buildDtoValidationRule(validation);
+            if (rule != null) {
+                dtoRules.add(rule);
             }
-
-            return dtoRules;
-        } catch (ClassNotFoundException e) {
-            return new ArrayList<>();
         }
+
+        return dtoRules;
     }
 
     private DtoValidationRule buildDtoValidationRule(ValidationMetaModel validation) {
@@ -1,42 +1,46 @@
 package com.univade.TU.generator.service;
 
 import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.GenerationMetrics;
 import com.univade.TU.generator.model.*;
 import com.univade.TU.generator.parser.EntityMetaModelParser;
-import com.univade.TU.generator.util.TemplateUtils;
-import freemarker.template.Configuration;
-import freemarker.template.Template;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import java.io.StringWriter;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 public class DtoGenerator {
 
-    private final Configuration freemarkerConfig;
+    private final TemplateRegistry templateRegistry;
     private final EntityMetaModelParser parser;
-    private final TemplateUtils templateUtils;
+    private final DataModelFactory dataModelFactory;
 
     @Autowired
-    public DtoGenerator(@Qualifier("freemarkerConfiguration") Configuration freemarkerConfig,
-                        EntityMetaModelParser parser) {
-        this.freemarkerConfig = freemarkerConfig;
+    public DtoGenerator(TemplateRegistry templateRegistry,
+                        EntityMetaModelParser parser,
+                        DataModelFactory dataModelFactory) {
+        this.templateRegistry = templateRegistry;
         this.parser = parser;
-        this.templateUtils = new TemplateUtils();
+        this.dataModelFactory = dataModelFactory;
     }
 
     public GeneratedTestResult generateDto(EntityMetaModel entity) {
         try {
+            entity = entity.freeze();
+
             GeneratedTestResult result = GeneratedTestResult.builder()
                     .entityName(entity.getName())
                     .build();
 
+            GenerationMetrics metrics = templateRegistry.getMetrics();
+            long modelStart = metrics.start();
             Map<String, Object> dataModel = createDtoDataModel(entity, "Dto");
-            String dtoContent = processTemplate("dto/dto.ftl", dataModel);
+            metrics.recordDataModelBuild(entity.getName(), "dto", modelStart);
+            String dtoContent = templateRegistry.render("dto/dto.ftl", dataModel);
             result.setDtoContent(dtoContent);
             result.addGeneratedFile(entity.getName() + "Dto.java");
 
@@ -57,22 +61,19 @@ public class DtoGenerator {
     }
 
     public List<DtoValidationRule> getValidationRulesForDtoType(EntityMetaModel entity, String dtoType) {
-        return buildDtoValidationRules(entity, dtoType);
+        return dataModelFactory.deriveList(entity, "dto.validationRules." + dtoType, target -> buildDtoValidationRules(target, dtoType));
     }
 
     private Map<String, Object> createDtoDataModel(EntityMetaModel entity, String dtoType) {
-        Map<String, Object> dataModel = new HashMap<>();
-        dataModel.put("entity", entity);
-        dataModel.put("templateUtils", templateUtils);
-        dataModel.put("dtoType", dtoType);
-
-        List<DtoValidationRule> validationRules = buildDtoValidationRules(entity, dtoType);
-        dataModel.put("validationRules", validationRules);
+        List<DtoValidationRule> validationRules = getValidationRulesForDtoType(entity, dtoType);
 
-        Set<String> imports = buildImports(entity, validationRules, dtoType);
-        dataModel.put("imports", imports);
+        Map<String, Object> overlay = new HashMap<>();
+        overlay.put("dtoType", dtoType);
+        overlay.put("validationRules", validationRules);
+        overlay.put("imports", dataModelFactory.derive(entity, "dto.imports." + dtoType,
+                target -> buildImports(target, validationRules, dtoType)));
 
-        return dataModel;
+        return dataModelFactory.layer(entity, overlay);
     }
 
     private List<DtoValidationRule> buildDtoValidationRules(EntityMetaModel entity, String dtoType) {
@@ -253,15 +254,4 @@ public class DtoGenerator {
         
         return attribute.getName() + " size validation";
     }
-
-    private String processTemplate(String templateName, Map<String, Object> dataModel) {
-        try {
-            Template template = freemarkerConfig.getTemplate(templateName);
-            StringWriter writer = new StringWriter();
-            template.process(dataModel, writer);
-            return writer.toString();
-        } catch (Exception e) {
-            throw TestGenerationException.templateProcessingError(templateName, e);
-        }
-    }
 }
@@ -2,14 +2,26 @@ package com.univade.TU.generator.service;
 
 import com.univade.TU.generator.exception.TestGenerationException;
 import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.FileWriteEntry;
+import com.univade.TU.generator.model.FileWriteReport;
+import com.univade.TU.generator.model.GeneratedArtifact;
 import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.util.AtomicFiles;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class FileWriterService {
@@ -17,8 +29,21 @@ public class FileWriterService {
     private static final String BASE_TEST_PATH = "src/test/java";
     private static final String BASE_BUILDER_PATH = "src/test/java";
     private static final String BASE_MAIN_PATH = "src/main/java";
+    private static final String BASE_TEST_RESOURCES_PATH = "src/test/resources";
 
-    public void writeGeneratedFiles(EntityMetaModel entityMetaModel, GeneratedTestResult result) {
+    private final Path outputRoot;
+
+    @Autowired
+    public FileWriterService(@Value("${generator.output.root:}") String outputRoot) {
+        this(Paths.get(outputRoot));
+    }
+
+    public FileWriterService(Path outputRoot) {
+        this.outputRoot = outputRoot;
+    }
+
+    public FileWriteReport writeGeneratedFiles(EntityMetaModel entityMetaModel, GeneratedTestResult result) {
+        FileWriteReport report = new FileWriteReport();
         try {
             String basePackage = entityMetaModel.getPackageName().replace(".entity", "");
             String basePackagePath = basePackage.replace(".", "/");
@@ -26,82 +51,220 @@ public class FileWriterService {
 
             if (result.getRepositoryTestContent() != null) {
                 String testPath = basePackagePath + "/repository";
-                writeFile(BASE_TEST_PATH + "/" + testPath,
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + testPath,
                          entityName + "RepositoryTest.java",
-                         result.getRepositoryTestContent());
+                         result.getRepositoryTestContent()));
             }
 
             if (result.getServiceTestContent() != null) {
                 String testPath = basePackagePath + "/service";
-                writeFile(BASE_TEST_PATH + "/" + testPath,
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + testPath,
                          entityName + "ServiceTest.java",
-                         result.getServiceTestContent());
+                         result.getServiceTestContent()));
             }
 
             if (result.getControllerTestContent() != null) {
                 String testPath = basePackagePath + "/controller";
-                writeFile(BASE_TEST_PATH + "/" + testPath,
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + testPath,
                          entityName + "ControllerTest.java",
-                         result.getControllerTestContent());
+                         result.getControllerTestContent()));
+            }
+
+            if (result.getControllerIntegrationTestContent() != null) {
+                String testPath = basePackagePath + "/controller";
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + testPath,
+                         entityName + "ControllerIntegrationTest.java",
+                         result.getControllerIntegrationTestContent()));
             }
 
             if (result.getBuilderContent() != null) {
                 String builderPath = basePackagePath + "/testdata";
-                writeFile(BASE_BUILDER_PATH + "/" + builderPath,
+                report.addEntry(writeFile(BASE_BUILDER_PATH + "/" + builderPath,
                          entityName + "TestDataBuilder.java",
-                         result.getBuilderContent());
+                         result.getBuilderContent()));
             }
 
             if (result.getValidationTestContent() != null) {
                 String testPath = basePackagePath.replace("/entity", "/validation");
-                writeFile(BASE_TEST_PATH + "/" + testPath,
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + testPath,
                          entityName + "ValidationTest.java",
-                         result.getValidationTestContent());
+                         result.getValidationTestContent()));
             }
 
             if (result.getDtoContent() != null) {
                 String dtoPath = basePackagePath + "/dto";
-                writeFile(BASE_MAIN_PATH + "/" + dtoPath,
+                report.addEntry(writeFile(BASE_MAIN_PATH + "/" + dtoPath,
                          entityName + "Dto.java",
-                         result.getDtoContent());
+                         result.getDtoContent()));
+            }
+
+            if (result.getBenchmarkContent() != null) {
+                String benchmarkPath = basePackagePath + "/benchmark";
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + benchmarkPath,
+                         entityName + "Benchmark.java",
+                         result.getBenchmarkContent()));
+            }
+
+            if (result.getLoadTestContent() != null) {
+                String loadTestPath = basePackagePath + "/loadtest";
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + loadTestPath,
+                         entityName + "LoadHarness.java",
+                         result.getLoadTestContent()));
             }
 
             if (result.getSecurityConfigContent() != null) {
                 String configPath = basePackagePath + "/config";
-                writeFile(BASE_TEST_PATH + "/" + configPath,
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + configPath,
                          "TestSecurityConfig.java",
-                         result.getSecurityConfigContent());
+                         result.getSecurityConfigContent()));
+            }
+
+            if (result.getRepositoryTestSupportContent() != null) {
+                String testPath = basePackagePath + "/repository";
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + testPath,
+                         "AbstractRepositoryTest.java",
+                         result.getRepositoryTestSupportContent()));
+            }
+
+            if (result.getTestProfileContent() != null) {
+                report.addEntry(writeFile(BASE_TEST_RESOURCES_PATH,
+                         "application-" + SecurityConfigGenerator.QUIET_TEST_PROFILE + ".properties",
+                         result.getTestProfileContent()));
+            }
+
+            if (result.getParallelTestSupportContent() != null) {
+                String builderPath = basePackagePath + "/testdata";
+                report.addEntry(writeFile(BASE_BUILDER_PATH + "/" + builderPath,
+                         "ParallelTestSupport.java",
+                         result.getParallelTestSupportContent()));
+            }
+
+            if (result.getJunitPlatformContent() != null) {
+                report.addEntry(writeFile(BASE_TEST_RESOURCES_PATH,
+                         "junit-platform.properties",
+                         result.getJunitPlatformContent()));
             }
 
             if (result.getCrudTestContent() != null) {
                 String testPath = basePackagePath.replace("/entity", "/crud");
-                writeFile(BASE_TEST_PATH + "/" + testPath,
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + testPath,
                          entityName + "CrudTest.java",
-                         result.getCrudTestContent());
+                         result.getCrudTestContent()));
             }
 
             if (result.getRelationshipTestContent() != null) {
                 String testPath = basePackagePath.replace("/entity", "/relationship");
-                writeFile(BASE_TEST_PATH + "/" + testPath,
+                report.addEntry(writeFile(BASE_TEST_PATH + "/" + testPath,
                          entityName + "RelationshipTest.java",
-                         result.getRelationshipTestContent());
+                         result.getRelationshipTestContent()));
             }
 
         } catch (Exception e) {
             throw TestGenerationException.fileWriteError("generated test files", e);
         }
+
+        return report;
+    }
+
+    public List<Path> getEntityOutputFiles(EntityMetaModel entityMetaModel) {
+        return getEntityOutputFiles(entityMetaModel, GenerationOptions.all().getArtifacts());
+    }
+
+    public List<Path> getEntityOutputFiles(EntityMetaModel entityMetaModel, Collection<GeneratedArtifact> artifacts) {
+        return artifacts.stream()
+                .map(artifact -> outputRoot.resolve(artifact.resolveFile(entityMetaModel)))
+                .toList();
+    }
+
+    public Path getSecurityConfigOutputFile(EntityMetaModel entityMetaModel) {
+        String basePackagePath = entityMetaModel.getPackageName().replace(".entity", "").replace(".", "/");
+        return outputRoot.resolve(Paths.get(BASE_TEST_PATH, basePackagePath, "config", "TestSecurityConfig.java"));
+    }
+
+    public List<Path> getSharedOutputFiles(EntityMetaModel entityMetaModel) {
+        String basePackagePath = entityMetaModel.getPackageName().replace(".entity", "").replace(".", "/");
+        return List.of(
+                getSecurityConfigOutputFile(entityMetaModel),
+                outputRoot.resolve(Paths.get(BASE_TEST_PATH, basePackagePath, "repository", "AbstractRepositoryTest.java")),
+                outputRoot.resolve(Paths.get(BASE_TEST_RESOURCES_PATH,
+                        "application-" + SecurityConfigGenerator.QUIET_TEST_PROFILE + ".properties")));
+    }
+
+    public FileWriteEntry writeStreaming(GeneratedArtifact artifact, EntityMetaModel entityMetaModel, Consumer<Writer> renderer) {
+        Path directory = outputRoot.resolve(artifact.resolveDirectory(entityMetaModel));
+        String fileName = artifact.getFileName(entityMetaModel);
+        try {
+            return writeStreaming(directory, fileName, renderer);
+        } catch (IOException e) {
+            throw TestGenerationException.fileWriteError(fileName, e);
+        }
     }
 
-    private void writeFile(String directoryPath, String fileName, String content) throws IOException {
-        Path directory = Paths.get(directoryPath);
+    private FileWriteEntry writeStreaming(Path directory, String fileName, Consumer<Writer> renderer) throws IOException {
         Files.createDirectories(directory);
-        
+
         Path filePath = directory.resolve(fileName);
-        Files.write(filePath, content.getBytes(), 
-                   StandardOpenOption.CREATE, 
-                   StandardOpenOption.TRUNCATE_EXISTING);
-        
-        System.out.println("Generated file: " + filePath.toAbsolutePath());
+        Path tempFile = AtomicFiles.createTempSibling(filePath);
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                renderer.accept(writer);
+            }
+
+            long bytes = Files.size(tempFile);
+            boolean unchanged = Files.isRegularFile(filePath) && Files.mismatch(tempFile, filePath) == -1L;
+            if (!unchanged) {
+                AtomicFiles.moveIntoPlace(tempFile, filePath);
+            }
+
+            return FileWriteEntry.builder()
+                    .path(filePath)
+                    .written(!unchanged)
+                    .bytes(bytes)
+                    .build();
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private FileWriteEntry writeFile(String directoryPath, String fileName, String content) throws IOException {
+        Path directory = outputRoot.resolve(directoryPath);
+        Files.createDirectories(directory);
+
+        Path filePath = directory.resolve(fileName);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+        if (hasSameContent(filePath, bytes)) {
+            return FileWriteEntry.builder()
+                    .path(filePath)
+                    .written(false)
+                    .bytes(bytes.length)
+                    .build();
+        }
+
+        Path tempFile = AtomicFiles.createTempSibling(filePath);
+        try {
+            Files.write(tempFile, bytes);
+            AtomicFiles.moveIntoPlace(tempFile, filePath);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        return FileWriteEntry.builder()
+                .path(filePath)
+                .written(true)
+                .bytes(bytes.length)
+                .build();
+    }
+
+    private boolean hasSameContent(Path filePath, byte[] bytes) throws IOException {
+        if (!Files.isRegularFile(filePath) || Files.size(filePath) != bytes.length) {
+            return false;
+        }
+        return Arrays.equals(Files.readAllBytes(filePath), bytes);
+    }
+
+    public Path getOutputRoot() {
+        return outputRoot;
     }
 
     public String getGeneratedFilesLocation() {
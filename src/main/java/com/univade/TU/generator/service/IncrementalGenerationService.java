@@ -0,0 +1,249 @@
+package com.univade.TU.generator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.model.BatchGenerationResult;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.FileWriteReport;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.GenerationManifest;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.model.IncrementalGenerationPlan;
+import com.univade.TU.generator.model.IncrementalGenerationResult;
+import com.univade.TU.generator.model.RelationshipMetaModel;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
+import com.univade.TU.generator.util.GeneratorVersion;
+import com.univade.TU.generator.util.MetaModelHasher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+@Service
+public class IncrementalGenerationService {
+
+    public static final String GENERATOR_VERSION = GeneratorVersion.current();
+
+    private static final String SECURITY_CONFIG_TEMPLATE_PREFIX = "config/";
+
+    private final BatchGenerationEngine batchGenerationEngine;
+    private final SecurityConfigGenerator securityConfigGenerator;
+    private final FileWriterService fileWriterService;
+    private final TemplateRegistry templateRegistry;
+    private final DataModelFactory dataModelFactory;
+    private final Path defaultManifestFile;
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Autowired
+    public IncrementalGenerationService(BatchGenerationEngine batchGenerationEngine,
+                                        SecurityConfigGenerator securityConfigGenerator,
+                                        FileWriterService fileWriterService,
+                                        TemplateRegistry templateRegistry,
+                                        DataModelFactory dataModelFactory,
+                                        @Value("${generator.incremental.manifest:target/tu-generation-manifest.json}") String manifestFile) {
+        this.batchGenerationEngine = batchGenerationEngine;
+        this.securityConfigGenerator = securityConfigGenerator;
+        this.fileWriterService = fileWriterService;
+        this.templateRegistry = templateRegistry;
+        this.dataModelFactory = dataModelFactory;
+        this.defaultManifestFile = Paths.get(manifestFile);
+    }
+
+    public IncrementalGenerationResult generateAndWrite(List<EntityMetaModel> entities, String basePackage) {
+        return generateAndWrite(entities, basePackage, defaultManifestFile);
+    }
+
+    public IncrementalGenerationResult generateAndWrite(List<EntityMetaModel> entities, String basePackage, Path manifestFile) {
+        return generateAndWrite(entities, basePackage, manifestFile, GenerationOptions.all());
+    }
+
+    public IncrementalGenerationResult generateAndWrite(List<EntityMetaModel> entities, String basePackage, Path manifestFile,
+                                                        GenerationOptions options) {
+        return generateAndWrite(entities, entity -> true, basePackage, manifestFile, options);
+    }
+
+    public IncrementalGenerationResult generateAndWrite(List<EntityMetaModel> entities, Predicate<EntityMetaModel> renderScope,
+                                                        String basePackage, Path manifestFile, GenerationOptions options) {
+        IncrementalGenerationPlan plan = plan(entities, renderScope, manifestFile, options);
+
+        List<EntityMetaModel> staleEntities = plan.getStaleEntities();
+        BatchGenerationResult batchResult = batchGenerationEngine.generate(staleEntities, options);
+        FileWriteReport writeReport = new FileWriteReport();
+        for (int i = 0; i < staleEntities.size(); i++) {
+            writeReport.merge(fileWriterService.writeGeneratedFiles(staleEntities.get(i), batchResult.getResults().get(i)));
+        }
+
+        GeneratedTestResult securityConfigResult = null;
+        if (plan.isSecurityConfigStale()) {
+            securityConfigResult = securityConfigGenerator.generateSecurityConfig(entities, basePackage);
+            writeReport.merge(fileWriterService.writeGeneratedFiles(entities.get(0), securityConfigResult));
+        }
+
+        writeManifest(manifestFile, plan.getManifest());
+
+        return IncrementalGenerationResult.builder()
+                .plan(plan)
+                .batchResult(batchResult)
+                .securityConfigResult(securityConfigResult)
+                .writeReport(writeReport)
+                .build();
+    }
+
+    public IncrementalGenerationPlan plan(List<EntityMetaModel> entities, Path manifestFile) {
+        return plan(entities, manifestFile, GenerationOptions.all());
+    }
+
+    public IncrementalGenerationPlan plan(List<EntityMetaModel> entities, Path manifestFile, GenerationOptions options) {
+        return plan(entities, entity -> true, manifestFile, options);
+    }
+
+    public IncrementalGenerationPlan plan(List<EntityMetaModel> entities, Predicate<EntityMetaModel> renderScope,
+                                          Path manifestFile, GenerationOptions options) {
+        GenerationManifest previous = readManifest(manifestFile);
+        boolean versionChanged = previous == null || !GENERATOR_VERSION.equals(previous.getGeneratorVersion());
+
+        Map<String, String> fingerprints = computeFingerprints(entities, options);
+        String securityConfigFingerprint = computeSecurityConfigFingerprint(entities, options);
+
+        IncrementalGenerationPlan plan = IncrementalGenerationPlan.builder()
+                .manifest(GenerationManifest.builder()
+                        .generatorVersion(GENERATOR_VERSION)
+                        .securityConfigFingerprint(securityConfigFingerprint)
+                        .entityFingerprints(new TreeMap<>(fingerprints))
+                        .build())
+                .build();
+
+        for (EntityMetaModel entity : entities) {
+            boolean unchanged = !versionChanged
+                    && Objects.equals(previous.getEntityFingerprint(entity.getName()), fingerprints.get(entity.getName()))
+                    && fileWriterService.getEntityOutputFiles(entity, options.getArtifacts()).stream().allMatch(Files::exists);
+            if (unchanged) {
+                plan.getUnchangedEntities().add(entity.getName());
+            } else if (renderScope.test(entity)) {
+                plan.getStaleEntities().add(entity);
+            } else {
+                plan.getDeferredEntities().add(entity.getName());
+                String previousFingerprint = versionChanged ? null : previous.getEntityFingerprint(entity.getName());
+                if (previousFingerprint != null) {
+                    plan.getManifest().getEntityFingerprints().put(entity.getName(), previousFingerprint);
+                } else {
+                    plan.getManifest().getEntityFingerprints().remove(entity.getName());
+                }
+            }
+        }
+
+        plan.setSecurityConfigStale(!entities.isEmpty() && (versionChanged
+                || !securityConfigFingerprint.equals(previous.getSecurityConfigFingerprint())
+                || !fileWriterService.getSharedOutputFiles(entities.get(0)).stream().allMatch(Files::exists)));
+
+        return plan;
+    }
+
+    public Map<String, String> computeFingerprints(List<EntityMetaModel> entities) {
+        return computeFingerprints(entities, GenerationOptions.all());
+    }
+
+    public Map<String, String> computeFingerprints(List<EntityMetaModel> entities, GenerationOptions options) {
+        Map<String, String> ownHashes = new HashMap<>();
+        for (EntityMetaModel entity : entities) {
+            ownHashes.put(entity.getName(), MetaModelHasher.hash(entity));
+        }
+
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        for (EntityMetaModel entity : entities) {
+            dependencies.computeIfAbsent(entity.getName(), name -> new TreeSet<>());
+            if (entity.getRelationships() == null) {
+                continue;
+            }
+            for (RelationshipMetaModel relationship : entity.getRelationships()) {
+                String target = relationship.getTargetEntity();
+                if (target == null || target.equals(entity.getName())) {
+                    continue;
+                }
+                dependencies.get(entity.getName()).add(target);
+                dependencies.computeIfAbsent(target, name -> new TreeSet<>()).add(entity.getName());
+            }
+        }
+
+        String templatesHash = templateRegistry.getCombinedContentHash(name -> !name.startsWith(SECURITY_CONFIG_TEMPLATE_PREFIX));
+
+        Map<String, String> fingerprints = new HashMap<>();
+        for (EntityMetaModel entity : entities) {
+            List<String> parts = new ArrayList<>();
+            parts.add(GENERATOR_VERSION);
+            parts.add(templatesHash);
+            parts.add(ownHashes.get(entity.getName()));
+            parts.add(generationSettings(entity, options));
+            for (String dependency : dependencies.get(entity.getName())) {
+                parts.add(dependency + "=" + ownHashes.get(dependency));
+            }
+            fingerprints.put(entity.getName(), MetaModelHasher.hash(parts.toArray(String[]::new)));
+        }
+        return fingerprints;
+    }
+
+    public String computeSecurityConfigFingerprint(List<EntityMetaModel> entities) {
+        return computeSecurityConfigFingerprint(entities, GenerationOptions.all());
+    }
+
+    public String computeSecurityConfigFingerprint(List<EntityMetaModel> entities, GenerationOptions options) {
+        List<String> parts = new ArrayList<>();
+        parts.add(GENERATOR_VERSION);
+        parts.add(templateRegistry.getCombinedContentHash(name -> name.startsWith(SECURITY_CONFIG_TEMPLATE_PREFIX)));
+        parts.add(MetaModelHasher.hashSecurityRules(entities));
+        parts.add("sharedParallelSafe=" + securityConfigGenerator.isParallelSafe());
+        for (EntityMetaModel entity : entities) {
+            parts.add(entity.getName() + ":" + generationSettings(entity, options));
+        }
+        return MetaModelHasher.hash(parts.toArray(String[]::new));
+    }
+
+    private String generationSettings(EntityMetaModel entity, GenerationOptions options) {
+        return "artifacts=" + options.getArtifacts()
+                + ";suites=" + dataModelFactory.getProfileResolver().resolve(entity, options).getEnabledSuites()
+                + ";seed=" + dataModelFactory.getTestDataGenerator().getSeed()
+                + ";parallelSafe=" + dataModelFactory.isParallelSafe();
+    }
+
+    public GenerationManifest readManifest(Path manifestFile) {
+        if (!Files.exists(manifestFile)) {
+            return null;
+        }
+        try {
+            return mapper.readValue(manifestFile.toFile(), GenerationManifest.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public void writeManifest(Path manifestFile, GenerationManifest manifest) {
+        try {
+            Path parent = manifestFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            mapper.writeValue(manifestFile.toFile(), manifest);
+        } catch (IOException e) {
+            throw TestGenerationException.fileWriteError(manifestFile.toString(), e);
+        }
+    }
+
+    public Path getDefaultManifestFile() {
+        return defaultManifestFile;
+    }
+}
@@ -0,0 +1,137 @@
+package com.univade.TU.generator.service;
+
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.GenerationMetrics;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.LoadTestEndpoint;
+import com.univade.TU.generator.model.RelationshipMetaModel;
+import com.univade.TU.generator.model.SecurityRuleMetaModel;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class LoadTestGenerator {
+
+    private static final String TEMPLATE = "loadtest/entity-load-harness.ftl";
+    private static final String ID_PLACEHOLDER = "{id}";
+
+    private final TemplateRegistry templateRegistry;
+    private final EntityMetaModelParser parser;
+    private final DataModelFactory dataModelFactory;
+
+    @Autowired
+    public LoadTestGenerator(TemplateRegistry templateRegistry,
+                             EntityMetaModelParser parser,
+                             DataModelFactory dataModelFactory) {
+        this.templateRegistry = templateRegistry;
+        this.parser = parser;
+        this.dataModelFactory = dataModelFactory;
+    }
+
+    public GeneratedTestResult generateLoadHarness(EntityMetaModel entity) {
+        try {
+            entity = entity.freeze();
+
+            GeneratedTestResult result = GeneratedTestResult.builder()
+                    .entityName(entity.getName())
+                    .build();
+
+            result.setLoadTestContent(renderLoadHarness(entity));
+            result.addGeneratedFile(entity.getName() + "LoadHarness.java");
+
+            return result;
+        } catch (TestGenerationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TestGenerationException("Failed to generate load harness for " + entity.getName(), e);
+        }
+    }
+
+    public String renderLoadHarness(EntityMetaModel entity) {
+        StringWriter writer = new StringWriter();
+        renderLoadHarness(entity, writer);
+        return writer.toString();
+    }
+
+    public void renderLoadHarness(EntityMetaModel entity, Writer writer) {
+        GenerationMetrics metrics = templateRegistry.getMetrics();
+        long modelStart = metrics.start();
+        Map<String, Object> dataModel = createLoadTestDataModel(entity);
+        metrics.recordDataModelBuild(entity.getName(), "loadtest", modelStart);
+
+        templateRegistry.render(TEMPLATE, dataModel, writer);
+    }
+
+    public GeneratedTestResult generateFromJson(String jsonMetaModel) {
+        return generateLoadHarness(parser.parseFromJson(jsonMetaModel));
+    }
+
+    Map<String, Object> createLoadTestDataModel(EntityMetaModel entity) {
+        Map<String, Object> overlay = new HashMap<>();
+        overlay.put("loadTestPackage", dataModelFactory.basePackage(entity) + ".loadtest");
+        overlay.put("endpoints", dataModelFactory.deriveList(entity, "loadtest.endpoints", this::buildEndpoints));
+        overlay.put("requiredTargets", dataModelFactory.deriveList(entity, "loadtest.requiredTargets", this::requiredTargets));
+        return dataModelFactory.layer(entity, overlay);
+    }
+
+    private List<LoadTestEndpoint> buildEndpoints(EntityMetaModel entity) {
+        String basePath = resolveBasePath(entity);
+        String itemPath = basePath + "/" + ID_PLACEHOLDER;
+
+        List<LoadTestEndpoint> endpoints = new ArrayList<>();
+        endpoints.add(endpoint("create", "POST", basePath, 10, true, false, false));
+        endpoints.add(endpoint("get", "GET", itemPath, 30, false, true, false));
+        endpoints.add(endpoint("paginated", "GET", basePath + "/paginated?page=0&size=20", 20, false, false, false));
+        endpoints.add(endpoint("update", "PUT", itemPath, 10, true, true, false));
+        endpoints.add(endpoint("delete", "DELETE", itemPath, 5, false, false, true));
+        endpoints.add(endpoint("exists", "GET", itemPath + "/exists", 15, false, true, false));
+        endpoints.add(endpoint("count", "GET", basePath + "/count", 10, false, false, false));
+        return endpoints;
+    }
+
+    private LoadTestEndpoint endpoint(String name, String httpMethod, String path, int weight,
+                                      boolean requiresBody, boolean requiresId, boolean consumesId) {
+        return LoadTestEndpoint.builder()
+                .name(name)
+                .httpMethod(httpMethod)
+                .path(path)
+                .weight(weight)
+                .requiresBody(requiresBody)
+                .requiresId(requiresId)
+                .consumesId(consumesId)
+                .build();
+    }
+
+    private String resolveBasePath(EntityMetaModel entity) {
+        return entity.getSecurityRulesForBasePath().stream()
+                .map(SecurityRuleMetaModel::getPath)
+                .filter(path -> !path.contains("{"))
+                .min(Comparator.comparingInt(String::length))
+                .orElse("/api/" + entity.getPluralName());
+    }
+
+    private List<String> requiredTargets(EntityMetaModel entity) {
+        Set<String> targets = new LinkedHashSet<>();
+        for (RelationshipMetaModel relationship : entity.getRelationships()) {
+            boolean singleValued = "ManyToOne".equals(relationship.getType()) || "OneToOne".equals(relationship.getType());
+            if (singleValued && !entity.getName().equals(relationship.getTargetEntity())) {
+                targets.add(relationship.getTargetEntity());
+            }
+        }
+        return new ArrayList<>(targets);
+    }
+}
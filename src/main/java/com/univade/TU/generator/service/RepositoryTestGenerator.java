@@ -1,22 +1,22 @@
 package com.univade.TU.generator.service;
 
 import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.GenerationMetrics;
 import com.univade.TU.generator.model.AttributeMetaModel;
 import com.univade.TU.generator.model.DatabaseValidationRule;
 import com.univade.TU.generator.model.EntityMetaModel;
 import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.SuiteSelection;
 
 import com.univade.TU.generator.parser.EntityMetaModelParser;
-import com.univade.TU.generator.util.TemplateUtils;
-import com.univade.TU.generator.util.TestDataGenerator;
-import freemarker.template.Configuration;
-import freemarker.template.Template;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -25,33 +25,37 @@ import java.util.Map;
 @Service
 public class RepositoryTestGenerator {
 
-    private final Configuration freemarkerConfig;
+    private final TemplateRegistry templateRegistry;
     private final EntityMetaModelParser parser;
-    private final TemplateUtils templateUtils;
-    private final TestDataGenerator testDataGenerator;
+    private final DataModelFactory dataModelFactory;
 
     @Autowired
-    public RepositoryTestGenerator(@Qualifier("freemarkerConfiguration") Configuration freemarkerConfig,
-                                   EntityMetaModelParser parser) {
-        this.freemarkerConfig = freemarkerConfig;
+    public RepositoryTestGenerator(TemplateRegistry templateRegistry,
+                                   EntityMetaModelParser parser,
+                                   DataModelFactory dataModelFactory) {
+        this.templateRegistry = templateRegistry;
         this.parser = parser;
-        this.templateUtils = new TemplateUtils();
-        this.testDataGenerator = new TestDataGenerator();
+        this.dataModelFactory = dataModelFactory;
     }
 
     public GeneratedTestResult generateRepositoryTest(EntityMetaModel entity) {
         try {
+            entity = entity.freeze();
+
             GeneratedTestResult result = GeneratedTestResult.builder()
                     .entityName(entity.getName())
                     .build();
 
+            GenerationMetrics metrics = templateRegistry.getMetrics();
+            long modelStart = metrics.start();
             Map<String, Object> dataModel = createDataModel(entity);
+            metrics.recordDataModelBuild(entity.getName(), "repository", modelStart);
 
-            String testContent = processTemplate("repository/repository-test.ftl", dataModel);
+            String testContent = templateRegistry.render("repository/repository-test.ftl", dataModel);
             result.setRepositoryTestContent(testContent);
             result.addGeneratedFile(entity.getName() + "RepositoryTest.java");
 
-            String builderContent = processTemplate("test-data-builder.ftl", dataModel);
+            String builderContent = templateRegistry.render("test-data-builder.ftl", dataModel);
             result.setBuilderContent(builderContent);
             result.addGeneratedFile(entity.getBuilderClassName() + ".java");
 
@@ -62,6 +66,21 @@ public class RepositoryTestGenerator {
         }
     }
 
+    public String renderTest(EntityMetaModel entity, SuiteSelection suites) {
+        StringWriter writer = new StringWriter();
+        renderTest(entity, suites, writer);
+        return writer.toString();
+    }
+
+    public void renderTest(EntityMetaModel entity, SuiteSelection suites, Writer writer) {
+        GenerationMetrics metrics = templateRegistry.getMetrics();
+        long modelStart = metrics.start();
+        Map<String, Object> dataModel = createDataModel(entity, suites);
+        metrics.recordDataModelBuild(entity.getName(), "repository", modelStart);
+
+        templateRegistry.render("repository/repository-test.ftl", dataModel, writer);
+    }
+
     public GeneratedTestResult generateFromJson(String jsonMetaModel) {
         EntityMetaModel entity = parser.parseFromJson(jsonMetaModel);
         return generateRepositoryTest(entity);
@@ -72,37 +91,19 @@ public class RepositoryTestGenerator {
         return generateRepositoryTest(entity);
     }
 
-    private Map<String, Object> createDataModel(EntityMetaModel entity) {
-        Map<String, Object> dataModel = new HashMap<>();
-
-        dataModel.put("entity", entity);
-        dataModel.put("validationRules", buildValidationRules(entity));
-        dataModel.put("utils", templateUtils);
-        dataModel.put("generator", testDataGenerator);
-
-        String basePackage = entity.getPackageName().replace(".entity", "");
-        dataModel.put("packageName", entity.getPackageName());
-        dataModel.put("basePackage", basePackage);
-        dataModel.put("repositoryPackage", basePackage + ".repository");
-        dataModel.put("testPackage", basePackage + ".repository");
-        dataModel.put("builderPackage", basePackage + ".testdata");
-
-        return dataModel;
+    Map<String, Object> createDataModel(EntityMetaModel entity) {
+        return createDataModel(entity, dataModelFactory.suites(entity));
     }
 
-
-
-    private String processTemplate(String templateName, Map<String, Object> dataModel) {
-        try {
-            Template template = freemarkerConfig.getTemplate(templateName);
-            StringWriter writer = new StringWriter();
-            template.process(dataModel, writer);
-            return writer.toString();
-        } catch (Exception e) {
-            throw TestGenerationException.templateProcessingError(templateName, e);
-        }
+    Map<String, Object> createDataModel(EntityMetaModel entity, SuiteSelection suites) {
+        Map<String, Object> overlay = new HashMap<>();
+        overlay.put("validationRules", dataModelFactory.deriveList(entity, "repository.validationRules", this::buildValidationRules));
+        overlay.put("testPackage", dataModelFactory.base(entity).get("repositoryPackage"));
+        overlay.put("suites", suites);
+        return dataModelFactory.layer(entity, overlay);
     }
 
+
     public GeneratedTestResult generateAllTests(EntityMetaModel entity) {
         return generateRepositoryTest(entity);
     }
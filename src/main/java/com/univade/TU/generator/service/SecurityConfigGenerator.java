@@ -1,26 +1,36 @@
 package com.univade.TU.generator.service;
 
 import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.GenerationMetrics;
 import com.univade.TU.generator.model.EntityMetaModel;
 import com.univade.TU.generator.model.GeneratedTestResult;
 import com.univade.TU.generator.model.SecurityRuleMetaModel;
-import freemarker.template.Configuration;
-import freemarker.template.Template;
+import com.univade.TU.generator.template.TemplateRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.StringWriter;
 import java.util.*;
 
 @Service
 public class SecurityConfigGenerator {
 
-    private final Configuration freemarkerConfig;
+    public static final String QUIET_TEST_PROFILE = TestSupportGenerator.QUIET_TEST_PROFILE;
+
+    private final TemplateRegistry templateRegistry;
+    private final boolean parallelSafe;
+    private final TestSupportGenerator testSupportGenerator;
+
+    public SecurityConfigGenerator(TemplateRegistry templateRegistry) {
+        this(templateRegistry, false);
+    }
 
     @Autowired
-    public SecurityConfigGenerator(@Qualifier("freemarkerConfiguration") Configuration freemarkerConfig) {
-        this.freemarkerConfig = freemarkerConfig;
+    public SecurityConfigGenerator(TemplateRegistry templateRegistry,
+                                   @Value("${generator.tests.parallel-safe:false}") boolean parallelSafe) {
+        this.templateRegistry = templateRegistry;
+        this.parallelSafe = parallelSafe;
+        this.testSupportGenerator = new TestSupportGenerator(templateRegistry, parallelSafe);
     }
 
     public GeneratedTestResult generateSecurityConfig(List<EntityMetaModel> entities, String basePackage) {
@@ -29,11 +39,15 @@ public class SecurityConfigGenerator {
                     .entityName("TestSecurityConfig")
                     .build();
 
+            GenerationMetrics metrics = templateRegistry.getMetrics();
+            long modelStart = metrics.start();
             Map<String, Object> dataModel = createSecurityConfigDataModel(entities, basePackage);
-            String securityConfigContent = processTemplate("config/test-security-config.ftl", dataModel);
+            metrics.recordDataModelBuild("TestSecurityConfig", "config", modelStart);
+            String securityConfigContent = templateRegistry.render("config/test-security-config.ftl", dataModel);
             result.setSecurityConfigContent(securityConfigContent);
             result.addGeneratedFile("TestSecurityConfig.java");
 
+            testSupportGenerator.applyTo(result, basePackage);
 
             return result;
         } catch (Exception e) {
@@ -60,18 +74,13 @@ public class SecurityConfigGenerator {
         dataModel.put("securityRules", allSecurityRules);
         dataModel.put("hasSecurityRules", hasAnySecurityRules);
         dataModel.put("allSecurityRoles", new ArrayList<>(allRoles));
+        dataModel.put("quietProfile", QUIET_TEST_PROFILE);
+        dataModel.put("parallelSafe", parallelSafe);
         
         return dataModel;
     }
 
-    private String processTemplate(String templateName, Map<String, Object> dataModel) {
-        try {
-            Template template = freemarkerConfig.getTemplate(templateName);
-            StringWriter writer = new StringWriter();
-            template.process(dataModel, writer);
-            return writer.toString();
-        } catch (Exception e) {
-            throw new TestGenerationException("Error processing template: " + templateName, e);
-        }
+    public boolean isParallelSafe() {
+        return parallelSafe;
     }
 }
@@ -1,51 +1,54 @@
 package com.univade.TU.generator.service;
 
 import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.GenerationMetrics;
 import com.univade.TU.generator.model.EntityMetaModel;
 import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.SuiteSelection;
 import com.univade.TU.generator.parser.EntityMetaModelParser;
-import com.univade.TU.generator.util.TemplateUtils;
-import com.univade.TU.generator.util.TestDataGenerator;
-import freemarker.template.Configuration;
-import freemarker.template.Template;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.io.StringWriter;
-import java.util.HashMap;
+import java.io.Writer;
 import java.util.Map;
 
 @Service
 public class ServiceTestGenerator {
 
-    private final Configuration freemarkerConfig;
+    private final TemplateRegistry templateRegistry;
     private final EntityMetaModelParser parser;
-    private final TemplateUtils templateUtils;
-    private final TestDataGenerator testDataGenerator;
+    private final DataModelFactory dataModelFactory;
 
     @Autowired
-    public ServiceTestGenerator(@Qualifier("freemarkerConfiguration") Configuration freemarkerConfig,
-                            EntityMetaModelParser parser) {
-        this.freemarkerConfig = freemarkerConfig;
+    public ServiceTestGenerator(TemplateRegistry templateRegistry,
+                            EntityMetaModelParser parser,
+                            DataModelFactory dataModelFactory) {
+        this.templateRegistry = templateRegistry;
         this.parser = parser;
-        this.templateUtils = new TemplateUtils();
-        this.testDataGenerator = new TestDataGenerator();
+        this.dataModelFactory = dataModelFactory;
     }
 
     public GeneratedTestResult generateServiceTest(EntityMetaModel entity) {
         try {
+            entity = entity.freeze();
+
             GeneratedTestResult result = GeneratedTestResult.builder()
                     .entityName(entity.getName())
                     .build();
 
+            GenerationMetrics metrics = templateRegistry.getMetrics();
+            long modelStart = metrics.start();
             Map<String, Object> dataModel = createServiceDataModel(entity);
+            metrics.recordDataModelBuild(entity.getName(), "service", modelStart);
 
-            String testContent = processTemplate("service/service-test.ftl", dataModel);
+            String testContent = templateRegistry.render("service/service-test.ftl", dataModel);
             result.setServiceTestContent(testContent);
             result.addGeneratedFile(entity.getName() + "ServiceTest.java");
 
-            String builderContent = processTemplate("test-data-builder.ftl", dataModel);
+            String builderContent = templateRegistry.render("test-data-builder.ftl", dataModel);
             result.setBuilderContent(builderContent);
             result.addGeneratedFile(entity.getBuilderClassName() + ".java");
 
@@ -55,6 +58,21 @@ public class ServiceTestGenerator {
         }
     }
 
+    public String renderTest(EntityMetaModel entity, SuiteSelection suites) {
+        StringWriter writer = new StringWriter();
+        renderTest(entity, suites, writer);
+        return writer.toString();
+    }
+
+    public void renderTest(EntityMetaModel entity, SuiteSelection suites, Writer writer) {
+        GenerationMetrics metrics = templateRegistry.getMetrics();
+        long modelStart = metrics.start();
+        Map<String, Object> dataModel = createServiceDataModel(entity, suites);
+        metrics.recordDataModelBuild(entity.getName(), "service", modelStart);
+
+        templateRegistry.render("service/service-test.ftl", dataModel, writer);
+    }
+
     public GeneratedTestResult generateFromJson(String jsonMetaModel) {
         EntityMetaModel entity = parser.parseFromJson(jsonMetaModel);
         return generateServiceTest(entity);
@@ -65,35 +83,17 @@ public class ServiceTestGenerator {
         return generateServiceTest(entity);
     }
 
-    private Map<String, Object> createServiceDataModel(EntityMetaModel entity) {
-        Map<String, Object> dataModel = new HashMap<>();
-
-        dataModel.put("entity", entity);
-        dataModel.put("utils", templateUtils);
-        dataModel.put("generator", testDataGenerator);
-
-        String basePackage = entity.getPackageName().replace(".entity", "");
-        dataModel.put("packageName", entity.getPackageName());
-        dataModel.put("basePackage", basePackage);
-        dataModel.put("repositoryPackage", basePackage + ".repository");
-        dataModel.put("servicePackage", basePackage + ".service");
-        dataModel.put("testPackage", basePackage + ".service");
-        dataModel.put("builderPackage", basePackage + ".testdata");
-
-        return dataModel;
+    Map<String, Object> createServiceDataModel(EntityMetaModel entity) {
+        return createServiceDataModel(entity, dataModelFactory.suites(entity));
     }
 
-    private String processTemplate(String templateName, Map<String, Object> dataModel) {
-        try {
-            Template template = freemarkerConfig.getTemplate(templateName);
-            StringWriter writer = new StringWriter();
-            template.process(dataModel, writer);
-            return writer.toString();
-        } catch (Exception e) {
-            throw TestGenerationException.templateProcessingError(templateName, e);
-        }
+    Map<String, Object> createServiceDataModel(EntityMetaModel entity, SuiteSelection suites) {
+        return dataModelFactory.layer(entity, Map.of(
+                "testPackage", dataModelFactory.base(entity).get("servicePackage"),
+                "suites", suites));
     }
 
+
     public boolean validateMetaModel(EntityMetaModel entity) {
         if (entity == null) {
             throw TestGenerationException.invalidMetaModel("EntityMetaModel cannot be null");
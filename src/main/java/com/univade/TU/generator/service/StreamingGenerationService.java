@@ -0,0 +1,77 @@
+package com.univade.TU.generator.service;
+
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.FileWriteReport;
+import com.univade.TU.generator.model.GeneratedArtifact;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.model.SuiteSelection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class StreamingGenerationService {
+
+    private final TestGeneratorService testGeneratorService;
+    private final FileWriterService fileWriterService;
+
+    @Autowired
+    public StreamingGenerationService(TestGeneratorService testGeneratorService,
+                                      FileWriterService fileWriterService) {
+        this.testGeneratorService = testGeneratorService;
+        this.fileWriterService = fileWriterService;
+    }
+
+    public GeneratedTestResult generateToDisk(EntityMetaModel entity) {
+        return generateToDisk(entity, GenerationOptions.all());
+    }
+
+    public GeneratedTestResult generateToDisk(EntityMetaModel entityMetaModel, GenerationOptions options) {
+        EntityMetaModel entity = entityMetaModel.freeze();
+        try {
+            SuiteSelection suites = testGeneratorService.resolveSuites(entity, options);
+
+            GeneratedTestResult result = GeneratedTestResult.builder()
+                    .entityName(entity.getName())
+                    .build();
+
+            for (GeneratedArtifact artifact : options.getArtifacts()) {
+                result.addFileEntry(fileWriterService.writeStreaming(artifact, entity,
+                        writer -> testGeneratorService.renderArtifact(entity, artifact, suites, writer)));
+                if (artifact == GeneratedArtifact.REPOSITORY_TEST) {
+                    writeTestSupport(result, entity);
+                }
+            }
+
+            return result;
+        } catch (TestGenerationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TestGenerationException("Failed to stream generated tests for " + entity.getName(), e);
+        }
+    }
+
+    public FileWriteReport generateToDisk(List<EntityMetaModel> entities) {
+        return generateToDisk(entities, GenerationOptions.all());
+    }
+
+    public FileWriteReport generateToDisk(List<EntityMetaModel> entities, GenerationOptions options) {
+        FileWriteReport report = new FileWriteReport();
+        for (EntityMetaModel entity : entities) {
+            GeneratedTestResult result = generateToDisk(entity, options);
+            result.getFileEntries().forEach(report::addEntry);
+        }
+        return report;
+    }
+
+    private void writeTestSupport(GeneratedTestResult result, EntityMetaModel entity) {
+        GeneratedTestResult support = GeneratedTestResult.builder()
+                .entityName(entity.getName())
+                .build();
+        testGeneratorService.applyTestSupport(support, entity);
+        fileWriterService.writeGeneratedFiles(entity, support).getEntries().forEach(result::addFileEntry);
+    }
+}
@@ -1,65 +1,93 @@
 package com.univade.TU.generator.service;
 
 import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.GenerationMetrics;
 import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.GeneratedArtifact;
 import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.model.SuiteSelection;
 import com.univade.TU.generator.parser.EntityMetaModelParser;
-import com.univade.TU.generator.util.TemplateUtils;
-import com.univade.TU.generator.util.TestDataGenerator;
-import freemarker.template.Configuration;
-import freemarker.template.Template;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
 
 @Service
 public class TestGeneratorService {
 
-    private final Configuration freemarkerConfig;
+    private final TemplateRegistry templateRegistry;
     private final EntityMetaModelParser parser;
     private final FileWriterService fileWriterService;
-    private final TemplateUtils templateUtils;
-    private final TestDataGenerator testDataGenerator;
+    private final DataModelFactory dataModelFactory;
+    private final RepositoryTestGenerator repositoryTestGenerator;
+    private final ServiceTestGenerator serviceTestGenerator;
+    private final ControllerTestGenerator controllerTestGenerator;
+    private final DtoGenerator dtoGenerator;
+    private final BenchmarkGenerator benchmarkGenerator;
+    private final LoadTestGenerator loadTestGenerator;
+    private final TestSupportGenerator testSupportGenerator;
 
     @Autowired
-    public TestGeneratorService(@Qualifier("freemarkerConfiguration") Configuration freemarkerConfig, EntityMetaModelParser parser, FileWriterService fileWriterService) {
-        this.freemarkerConfig = freemarkerConfig;
+    public TestGeneratorService(TemplateRegistry templateRegistry, EntityMetaModelParser parser,
+                                FileWriterService fileWriterService, DataModelFactory dataModelFactory,
+                                RepositoryTestGenerator repositoryTestGenerator,
+                                ServiceTestGenerator serviceTestGenerator,
+                                ControllerTestGenerator controllerTestGenerator,
+                                DtoGenerator dtoGenerator,
+                                BenchmarkGenerator benchmarkGenerator,
+                                LoadTestGenerator loadTestGenerator) {
+        this.templateRegistry = templateRegistry;
         this.parser = parser;
         this.fileWriterService = fileWriterService;
-        this.templateUtils = new TemplateUtils();
-        this.testDataGenerator = new TestDataGenerator();
+        this.dataModelFactory = dataModelFactory;
+        this.repositoryTestGenerator = repositoryTestGenerator;
+        this.serviceTestGenerator = serviceTestGenerator;
+        this.controllerTestGenerator = controllerTestGenerator;
+        this.dtoGenerator = dtoGenerator;
+        this.benchmarkGenerator = benchmarkGenerator;
+        this.loadTestGenerator = loadTestGenerator;
+        this.testSupportGenerator = new TestSupportGenerator(templateRegistry, dataModelFactory.isParallelSafe());
     }
 
     public GeneratedTestResult generateRepositoryTest(EntityMetaModel entityMetaModel) {
         try {
+            entityMetaModel = entityMetaModel.freeze();
+
             GeneratedTestResult result = GeneratedTestResult.builder()
                     .entityName(entityMetaModel.getName())
                     .build();
 
+            GenerationMetrics metrics = templateRegistry.getMetrics();
+            long modelStart = metrics.start();
             Map<String, Object> dataModel = createDataModel(entityMetaModel);
+            metrics.recordDataModelBuild(entityMetaModel.getName(), "repository", modelStart);
 
-            String repositoryTestContent = processTemplate("repository-test.ftl", dataModel);
+            String repositoryTestContent = templateRegistry.render("repository/repository-test.ftl", dataModel);
             result.setRepositoryTestContent(repositoryTestContent);
             result.addGeneratedFile(entityMetaModel.getTestClassName() + ".java");
 
-            String builderContent = processTemplate("test-data-builder.ftl", dataModel);
+            String builderContent = templateRegistry.render("test-data-builder.ftl", dataModel);
             result.setBuilderContent(builderContent);
             result.addGeneratedFile(entityMetaModel.getBuilderClassName() + ".java");
 
             if (entityMetaModel.hasValidations()) {
-                String validationTestContent = processTemplate("validation-tests.ftl", dataModel);
+                String validationTestContent = templateRegistry.render("repository/validation-tests.ftl", dataModel);
                 result.setValidationTestContent(validationTestContent);
                 result.addGeneratedFile(entityMetaModel.getName() + "ValidationTest.java");
             }
 
-            String crudTestContent = processTemplate("crud-tests.ftl", dataModel);
+            String crudTestContent = templateRegistry.render("repository/crud-tests.ftl", dataModel);
             result.setCrudTestContent(crudTestContent);
             result.addGeneratedFile(entityMetaModel.getName() + "CrudTest.java");
 
+            testSupportGenerator.applyTo(result, dataModelFactory.basePackage(entityMetaModel));
+
             return result;
 
         } catch (Exception e) {
@@ -84,30 +112,80 @@ public class TestGeneratorService {
     }
 
     private Map<String, Object> createDataModel(EntityMetaModel entityMetaModel) {
-        Map<String, Object> dataModel = new HashMap<>();
-        dataModel.put("entity", entityMetaModel);
-        dataModel.put("utils", templateUtils);
-        dataModel.put("generator", testDataGenerator);
-        dataModel.put("packageName", entityMetaModel.getPackageName());
-        dataModel.put("repositoryPackage", entityMetaModel.getPackageName().replace(".entity", ".repository"));
-        dataModel.put("testPackage", entityMetaModel.getPackageName().replace(".entity", ".repository"));
-        dataModel.put("builderPackage", entityMetaModel.getPackageName().replace(".entity", ".builder"));
-        return dataModel;
+        Map<String, Object> overlay = new HashMap<>();
+        overlay.put("repositoryPackage", entityMetaModel.getPackageName().replace(".entity", ".repository"));
+        overlay.put("testPackage", entityMetaModel.getPackageName().replace(".entity", ".repository"));
+        overlay.put("builderPackage", entityMetaModel.getPackageName().replace(".entity", ".builder"));
+        return dataModelFactory.layer(entityMetaModel, overlay);
+    }
+
+    public GeneratedTestResult generateAllTests(EntityMetaModel entityMetaModel) {
+        return generateAllTests(entityMetaModel, GenerationOptions.all());
+    }
+
+    public GeneratedTestResult generateAllTests(EntityMetaModel entityMetaModel, GenerationOptions options) {
+        EntityMetaModel entity = entityMetaModel.freeze();
+        SuiteSelection suites = resolveSuites(entity, options);
+
+        GeneratedTestResult result = GeneratedTestResult.builder()
+                .entityName(entity.getName())
+                .build();
+
+        for (GeneratedArtifact artifact : options.getArtifacts()) {
+            applyArtifact(result, entity, artifact, renderArtifact(entity, artifact, suites));
+        }
+
+        return result;
     }
 
-    private String processTemplate(String templateName, Map<String, Object> dataModel) {
+    public SuiteSelection resolveSuites(EntityMetaModel entity, GenerationOptions options) {
+        return dataModelFactory.getProfileResolver().resolve(entity, options);
+    }
+
+    public String renderArtifact(EntityMetaModel entity, GeneratedArtifact artifact, SuiteSelection suites) {
+        StringWriter writer = new StringWriter();
+        renderArtifact(entity, artifact, suites, writer);
+        return writer.toString();
+    }
+
+    public void renderArtifact(EntityMetaModel entity, GeneratedArtifact artifact, SuiteSelection suites, Writer writer) {
         try {
-            Template template = freemarkerConfig.getTemplate(templateName);
-            StringWriter writer = new StringWriter();
-            template.process(dataModel, writer);
-            return writer.toString();
+            switch (artifact) {
+                case REPOSITORY_TEST -> repositoryTestGenerator.renderTest(entity, suites, writer);
+                case SERVICE_TEST -> serviceTestGenerator.renderTest(entity, suites, writer);
+                case CONTROLLER_TEST -> controllerTestGenerator.renderTest(entity, suites, writer);
+                case CONTROLLER_INTEGRATION_TEST -> controllerTestGenerator.renderIntegrationTest(entity, suites, writer);
+                case TEST_DATA_BUILDER -> templateRegistry.render("test-data-builder.ftl", dataModelFactory.base(entity), writer);
+                case DTO -> writer.write(dtoGenerator.generateDto(entity).getDtoContent());
+                case BENCHMARK -> benchmarkGenerator.renderBenchmark(entity, writer);
+                case LOAD_TEST -> loadTestGenerator.renderLoadHarness(entity, writer);
+            }
+        } catch (TestGenerationException e) {
+            throw e;
         } catch (Exception e) {
-            throw TestGenerationException.templateProcessingError(templateName, e);
+            throw new TestGenerationException("Failed to generate " + artifact + " for " + entity.getName(), e);
         }
     }
 
-    public GeneratedTestResult generateAllTests(EntityMetaModel entityMetaModel) {
-        return generateRepositoryTest(entityMetaModel);
+    public void applyArtifact(GeneratedTestResult result, EntityMetaModel entity, GeneratedArtifact artifact, String content) {
+        switch (artifact) {
+            case REPOSITORY_TEST -> {
+                result.setRepositoryTestContent(content);
+                applyTestSupport(result, entity);
+            }
+            case SERVICE_TEST -> result.setServiceTestContent(content);
+            case CONTROLLER_TEST -> result.setControllerTestContent(content);
+            case CONTROLLER_INTEGRATION_TEST -> result.setControllerIntegrationTestContent(content);
+            case TEST_DATA_BUILDER -> result.setBuilderContent(content);
+            case DTO -> result.setDtoContent(content);
+            case BENCHMARK -> result.setBenchmarkContent(content);
+            case LOAD_TEST -> result.setLoadTestContent(content);
+        }
+        result.addGeneratedFile(artifact.getFileName(entity));
+    }
+
+    public void applyTestSupport(GeneratedTestResult result, EntityMetaModel entity) {
+        testSupportGenerator.applyTo(result, dataModelFactory.basePackage(entity));
     }
 
     public boolean validateMetaModel(EntityMetaModel entityMetaModel) {
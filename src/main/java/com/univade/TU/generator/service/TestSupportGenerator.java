@@ -0,0 +1,50 @@
+package com.univade.TU.generator.service;
+
+import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.template.TemplateRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class TestSupportGenerator {
+
+    public static final String QUIET_TEST_PROFILE = "quiet-test";
+
+    private final TemplateRegistry templateRegistry;
+    private final boolean parallelSafe;
+
+    public TestSupportGenerator(TemplateRegistry templateRegistry, boolean parallelSafe) {
+        this.templateRegistry = templateRegistry;
+        this.parallelSafe = parallelSafe;
+    }
+
+    public void applyTo(GeneratedTestResult result, String basePackage) {
+        Map<String, Object> dataModel = createDataModel(basePackage);
+
+        result.setRepositoryTestSupportContent(
+                templateRegistry.render("config/abstract-repository-test.ftl", dataModel));
+        result.addGeneratedFile("AbstractRepositoryTest.java");
+        result.setTestProfileContent(templateRegistry.render("config/quiet-test-profile.ftl", dataModel));
+        result.addGeneratedFile("application-" + QUIET_TEST_PROFILE + ".properties");
+
+        if (parallelSafe) {
+            result.setParallelTestSupportContent(
+                    templateRegistry.render("config/parallel-test-support.ftl", dataModel));
+            result.addGeneratedFile("ParallelTestSupport.java");
+            result.setJunitPlatformContent(templateRegistry.render("config/junit-platform.ftl", dataModel));
+            result.addGeneratedFile("junit-platform.properties");
+        }
+    }
+
+    private Map<String, Object> createDataModel(String basePackage) {
+        Map<String, Object> dataModel = new HashMap<>();
+        dataModel.put("basePackage", basePackage);
+        dataModel.put("quietProfile", QUIET_TEST_PROFILE);
+        dataModel.put("parallelSafe", parallelSafe);
+        return dataModel;
+    }
+
+    public boolean isParallelSafe() {
+        return parallelSafe;
+    }
+}
@@ -0,0 +1,456 @@
+package com.univade.TU.generator.snapshot;
+
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.model.AttributeMetaModel;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.RelationshipMetaModel;
+import com.univade.TU.generator.model.SecurityRuleMetaModel;
+import com.univade.TU.generator.model.ValidationMetaModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class MetaModelSnapshotCodec {
+
+    public static final int MAGIC = 0x54555353;
+    public static final short FORMAT_VERSION = 1;
+
+    private static final int NULL = -1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INTEGER = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_BOOLEAN = 6;
+    private static final byte TAG_BIG_DECIMAL = 7;
+    private static final byte TAG_BIG_INTEGER = 8;
+    private static final byte TAG_LIST = 9;
+    private static final byte TAG_MAP = 10;
+
+    private MetaModelSnapshotCodec() {
+    }
+
+    public static void encode(List<EntityMetaModel> entities, String sourceHash, OutputStream outputStream) throws IOException {
+        Encoder encoder = new Encoder();
+        encoder.writeEntities(entities);
+
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        writeRawString(out, sourceHash);
+
+        out.writeInt(encoder.strings.size());
+        for (String value : encoder.strings.keySet()) {
+            writeRawString(out, value);
+        }
+        encoder.body.writeTo(out);
+        out.flush();
+    }
+
+    public static String readSourceHash(ByteBuffer buffer) {
+        ByteBuffer header = buffer.duplicate();
+        try {
+            if (header.getInt() != MAGIC || header.getShort() != FORMAT_VERSION) {
+                return null;
+            }
+            return readRawString(header);
+        } catch (BufferUnderflowException e) {
+            return null;
+        }
+    }
+
+    public static List<EntityMetaModel> decode(ByteBuffer buffer) {
+        ByteBuffer in = buffer.duplicate();
+        try {
+            if (in.getInt() != MAGIC || in.getShort() != FORMAT_VERSION) {
+                throw new TestGenerationException("Unsupported meta-model snapshot format");
+            }
+            readRawString(in);
+
+            String[] strings = new String[in.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readRawString(in);
+            }
+            return new Decoder(in, strings).readEntities();
+        } catch (BufferUnderflowException e) {
+            throw new TestGenerationException("Truncated meta-model snapshot", e);
+        }
+    }
+
+    private static void writeRawString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readRawString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Encoder {
+
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(body);
+
+        private void writeEntities(List<EntityMetaModel> entities) throws IOException {
+            out.writeInt(entities.size());
+            for (EntityMetaModel entity : entities) {
+                writeString(entity.getName());
+                writeString(entity.getPackageName());
+                writeString(entity.getTableName());
+                out.writeBoolean(entity.isAuditable());
+
+                writeCount(entity.getAttributes());
+                if (entity.getAttributes() != null) {
+                    for (AttributeMetaModel attribute : entity.getAttributes()) {
+                        writeAttribute(attribute);
+                    }
+                }
+
+                writeCount(entity.getRelationships());
+                if (entity.getRelationships() != null) {
+                    for (RelationshipMetaModel relationship : entity.getRelationships()) {
+                        writeRelationship(relationship);
+                    }
+                }
+
+                writeCount(entity.getValidations());
+                if (entity.getValidations() != null) {
+                    for (ValidationMetaModel validation : entity.getValidations()) {
+                        writeValidation(validation);
+                    }
+                }
+
+                writeCount(entity.getSecurityRules());
+                if (entity.getSecurityRules() != null) {
+                    for (SecurityRuleMetaModel rule : entity.getSecurityRules()) {
+                        writeSecurityRule(rule);
+                    }
+                }
+            }
+            out.flush();
+        }
+
+        private void writeAttribute(AttributeMetaModel attribute) throws IOException {
+            writeString(attribute.getName());
+            writeString(attribute.getType());
+            out.writeBoolean(attribute.isNullable());
+            out.writeBoolean(attribute.isUnique());
+            writeInteger(attribute.getMaxLength());
+            writeInteger(attribute.getMinLength());
+            writeString(attribute.getValidationPattern());
+            writeValue(attribute.getDefaultValue());
+            writeString(attribute.getColumnName());
+            out.writeBoolean(attribute.isPrimaryKey());
+            out.writeBoolean(attribute.isGeneratedValue());
+            writeString(attribute.getGenerationType());
+            writeInteger(attribute.getMinValue());
+            writeInteger(attribute.getMaxValue());
+            out.writeBoolean(attribute.isEmail());
+            out.writeBoolean(attribute.isNotBlank());
+            out.writeBoolean(attribute.isLob());
+            out.writeBoolean(attribute.isEnumType());
+            writeString(attribute.getEnumClassName());
+            writeStrings(attribute.getEnumValues());
+        }
+
+        private void writeRelationship(RelationshipMetaModel relationship) throws IOException {
+            writeString(relationship.getName());
+            writeString(relationship.getType());
+            writeString(relationship.getTargetEntity());
+            writeString(relationship.getMappedBy());
+            writeString(relationship.getJoinColumn());
+            writeString(relationship.getJoinTable());
+            writeString(relationship.getCascadeType());
+            writeString(relationship.getFetchType());
+            out.writeBoolean(relationship.isOrphanRemoval());
+            out.writeBoolean(relationship.isOptional());
+        }
+
+        private void writeValidation(ValidationMetaModel validation) throws IOException {
+            writeString(validation.getAttributeName());
+            writeString(validation.getValidationType());
+            writeString(validation.getMessage());
+            writeValue(validation.getValue());
+            writeValue(validation.getMin());
+            writeValue(validation.getMax());
+            writeString(validation.getPattern());
+            writeStrings(validation.getGroups() != null ? List.of(validation.getGroups()) : null);
+        }
+
+        private void writeSecurityRule(SecurityRuleMetaModel rule) throws IOException {
+            writeString(rule.getPath());
+            Map<String, List<String>> methods = rule.getMethods();
+            out.writeInt(methods != null ? methods.size() : NULL);
+            if (methods != null) {
+                for (Map.Entry<String, List<String>> entry : methods.entrySet()) {
+                    writeString(entry.getKey());
+                    writeStrings(entry.getValue());
+                }
+            }
+        }
+
+        private void writeCount(List<?> list) throws IOException {
+            out.writeInt(list != null ? list.size() : NULL);
+        }
+
+        private void writeStrings(List<String> values) throws IOException {
+            writeCount(values);
+            if (values != null) {
+                for (String value : values) {
+                    writeString(value);
+                }
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            out.writeInt(value != null ? strings.computeIfAbsent(value, key -> strings.size()) : NULL);
+        }
+
+        private void writeInteger(Integer value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeInt(value);
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(TAG_NULL);
+            } else if (value instanceof String string) {
+                out.writeByte(TAG_STRING);
+                writeString(string);
+            } else if (value instanceof Integer integer) {
+                out.writeByte(TAG_INTEGER);
+                out.writeInt(integer);
+            } else if (value instanceof Long longValue) {
+                out.writeByte(TAG_LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble(doubleValue);
+            } else if (value instanceof Float floatValue) {
+                out.writeByte(TAG_FLOAT);
+                out.writeFloat(floatValue);
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(TAG_BOOLEAN);
+                out.writeBoolean(booleanValue);
+            } else if (value instanceof BigDecimal decimal) {
+                out.writeByte(TAG_BIG_DECIMAL);
+                writeString(decimal.toString());
+            } else if (value instanceof BigInteger integer) {
+                out.writeByte(TAG_BIG_INTEGER);
+                writeString(integer.toString());
+            } else if (value instanceof List<?> list) {
+                out.writeByte(TAG_LIST);
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                out.writeByte(TAG_MAP);
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeString(String.valueOf(entry.getKey()));
+                    writeValue(entry.getValue());
+                }
+            } else {
+                out.writeByte(TAG_STRING);
+                writeString(value.toString());
+            }
+        }
+    }
+
+    private static final class Decoder {
+
+        private final ByteBuffer in;
+        private final String[] strings;
+
+        private Decoder(ByteBuffer in, String[] strings) {
+            this.in = in;
+            this.strings = strings;
+        }
+
+        private List<EntityMetaModel> readEntities() {
+            int count = in.getInt();
+            List<EntityMetaModel> entities = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                EntityMetaModel entity = new EntityMetaModel();
+                entity.setName(readString());
+                entity.setPackageName(readString());
+                entity.setTableName(readString());
+                entity.setAuditable(readBoolean());
+
+                int attributeCount = in.getInt();
+                entity.setAttributes(attributeCount == NULL ? null : new ArrayList<>(attributeCount));
+                for (int j = 0; j < attributeCount; j++) {
+                    entity.getAttributes().add(readAttribute());
+                }
+
+                int relationshipCount = in.getInt();
+                entity.setRelationships(relationshipCount == NULL ? null : new ArrayList<>(relationshipCount));
+                for (int j = 0; j < relationshipCount; j++) {
+                    entity.getRelationships().add(readRelationship());
+                }
+
+                int validationCount = in.getInt();
+                entity.setValidations(validationCount == NULL ? null : new ArrayList<>(validationCount));
+                for (int j = 0; j < validationCount; j++) {
+                    entity.getValidations().add(readValidation());
+                }
+
+                int securityRuleCount = in.getInt();
+                entity.setSecurityRules(securityRuleCount == NULL ? null : new ArrayList<>(securityRuleCount));
+                for (int j = 0; j < securityRuleCount; j++) {
+                    entity.getSecurityRules().add(readSecurityRule());
+                }
+
+                entities.add(entity);
+            }
+            return entities;
+        }
+
+        private AttributeMetaModel readAttribute() {
+            AttributeMetaModel attribute = new AttributeMetaModel();
+            attribute.setName(readString());
+            attribute.setType(readString());
+            attribute.setNullable(readBoolean());
+            attribute.setUnique(readBoolean());
+            attribute.setMaxLength(readInteger());
+            attribute.setMinLength(readInteger());
+            attribute.setValidationPattern(readString());
+            attribute.setDefaultValue(readValue());
+            attribute.setColumnName(readString());
+            attribute.setPrimaryKey(readBoolean());
+            attribute.setGeneratedValue(readBoolean());
+            attribute.setGenerationType(readString());
+            attribute.setMinValue(readInteger());
+            attribute.setMaxValue(readInteger());
+            attribute.setEmail(readBoolean());
+            attribute.setNotBlank(readBoolean());
+            attribute.setLob(readBoolean());
+            attribute.setEnumType(readBoolean());
+            attribute.setEnumClassName(readString());
+            attribute.setEnumValues(readStrings());
+            return attribute;
+        }
+
+        private RelationshipMetaModel readRelationship() {
+            RelationshipMetaModel relationship = new RelationshipMetaModel();
+            relationship.setName(readString());
+            relationship.setType(readString());
+            relationship.setTargetEntity(readString());
+            relationship.setMappedBy(readString());
+            relationship.setJoinColumn(readString());
+            relationship.setJoinTable(readString());
+            relationship.setCascadeType(readString());
+            relationship.setFetchType(readString());
+            relationship.setOrphanRemoval(readBoolean());
+            relationship.setOptional(readBoolean());
+            return relationship;
+        }
+
+        private ValidationMetaModel readValidation() {
+            ValidationMetaModel validation = new ValidationMetaModel();
+            validation.setAttributeName(readString());
+            validation.setValidationType(readString());
+            validation.setMessage(readString());
+            validation.setValue(readValue());
+            validation.setMin(readValue());
+            validation.setMax(readValue());
+            validation.setPattern(readString());
+            List<String> groups = readStrings();
+            validation.setGroups(groups != null ? groups.toArray(String[]::new) : null);
+            return validation;
+        }
+
+        private SecurityRuleMetaModel readSecurityRule() {
+            SecurityRuleMetaModel rule = new SecurityRuleMetaModel();
+            rule.setPath(readString());
+            int methodCount = in.getInt();
+            if (methodCount == NULL) {
+                rule.setMethods(null);
+            } else {
+                Map<String, List<String>> methods = new LinkedHashMap<>();
+                for (int i = 0; i < methodCount; i++) {
+                    methods.put(readString(), readStrings());
+                }
+                rule.setMethods(methods);
+            }
+            return rule;
+        }
+
+        private List<String> readStrings() {
+            int count = in.getInt();
+            if (count == NULL) {
+                return null;
+            }
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        private String readString() {
+            int index = in.getInt();
+            return index == NULL ? null : strings[index];
+        }
+
+        private boolean readBoolean() {
+            return in.get() != 0;
+        }
+
+        private Integer readInteger() {
+            return readBoolean() ? in.getInt() : null;
+        }
+
+        private Object readValue() {
+            byte tag = in.get();
+            return switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_STRING -> readString();
+                case TAG_INTEGER -> in.getInt();
+                case TAG_LONG -> in.getLong();
+                case TAG_DOUBLE -> in.getDouble();
+                case TAG_FLOAT -> in.getFloat();
+                case TAG_BOOLEAN -> readBoolean();
+                case TAG_BIG_DECIMAL -> new BigDecimal(readString());
+                case TAG_BIG_INTEGER -> new BigInteger(readString());
+                case TAG_LIST -> {
+                    int size = in.getInt();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    yield list;
+                }
+                case TAG_MAP -> {
+                    int size = in.getInt();
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        map.put(readString(), readValue());
+                    }
+                    yield map;
+                }
+                default -> throw new TestGenerationException("Unknown value tag " + tag + " in meta-model snapshot");
+            };
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.univade.TU.generator.snapshot;
+
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import com.univade.TU.generator.service.IncrementalGenerationService;
+import com.univade.TU.generator.util.AtomicFiles;
+import com.univade.TU.generator.util.MetaModelHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class MetaModelSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(MetaModelSnapshotService.class);
+
+    private final EntityMetaModelParser parser;
+    private final Path defaultSnapshotFile;
+
+    @Autowired
+    public MetaModelSnapshotService(EntityMetaModelParser parser,
+                                    @Value("${generator.snapshot.file:target/tu-metamodel.snapshot}") String snapshotFile) {
+        this.parser = parser;
+        this.defaultSnapshotFile = Paths.get(snapshotFile);
+    }
+
+    public List<EntityMetaModel> loadOrParse(List<Path> sourceFiles) {
+        return loadOrParse(sourceFiles, defaultSnapshotFile);
+    }
+
+    public List<EntityMetaModel> loadOrParse(List<Path> sourceFiles, Path snapshotFile) {
+        List<byte[]> sources = new ArrayList<>(sourceFiles.size());
+        List<String> hashParts = new ArrayList<>();
+        hashParts.add(IncrementalGenerationService.GENERATOR_VERSION);
+        for (Path sourceFile : sourceFiles) {
+            byte[] content = readSource(sourceFile);
+            sources.add(content);
+            hashParts.add(sourceFile.toString());
+            hashParts.add(MetaModelHasher.hash(content));
+        }
+        String sourceHash = MetaModelHasher.hash(hashParts.toArray(String[]::new));
+
+        List<EntityMetaModel> cached = read(snapshotFile, sourceHash);
+        if (cached != null && cached.size() == sources.size()) {
+            return cached.stream().map(EntityMetaModelParser::normalizeEntityPackage).toList();
+        }
+
+        List<EntityMetaModel> entities = new ArrayList<>(sources.size());
+        for (byte[] content : sources) {
+            EntityMetaModel entity = parser.parseFromJson(new String(content, StandardCharsets.UTF_8));
+            entities.add(EntityMetaModelParser.normalizeEntityPackage(entity));
+        }
+        write(snapshotFile, entities, sourceHash);
+        return entities;
+    }
+
+    public List<EntityMetaModel> read(Path snapshotFile, String expectedSourceHash) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (!expectedSourceHash.equals(MetaModelSnapshotCodec.readSourceHash(buffer))) {
+                return null;
+            }
+            return MetaModelSnapshotCodec.decode(buffer);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable meta-model snapshot {}: {}", snapshotFile, e.getMessage());
+            return null;
+        }
+    }
+
+    public void write(Path snapshotFile, List<EntityMetaModel> entities, String sourceHash) {
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tempFile = AtomicFiles.createTempSibling(snapshotFile);
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                    MetaModelSnapshotCodec.encode(entities, sourceHash, out);
+                }
+                AtomicFiles.moveIntoPlace(tempFile, snapshotFile);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw TestGenerationException.fileWriteError(snapshotFile.toString(), e);
+        }
+    }
+
+    public Path getDefaultSnapshotFile() {
+        return defaultSnapshotFile;
+    }
+
+    private byte[] readSource(Path sourceFile) {
+        try {
+            return Files.readAllBytes(sourceFile);
+        } catch (IOException e) {
+            throw new TestGenerationException("Unable to read meta-model " + sourceFile, e);
+        }
+    }
+}
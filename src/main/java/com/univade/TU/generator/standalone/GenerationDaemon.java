@@ -0,0 +1,360 @@
+package com.univade.TU.generator.standalone;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univade.TU.generator.model.BatchGenerationResult;
+import com.univade.TU.generator.model.DaemonRequest;
+import com.univade.TU.generator.model.DaemonResponse;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.FileWriteEntry;
+import com.univade.TU.generator.model.FileWriteReport;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.model.IncrementalGenerationResult;
+import com.univade.TU.generator.model.RelationshipMetaModel;
+import com.univade.TU.generator.model.TestProfile;
+import com.univade.TU.generator.service.FileWriterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class GenerationDaemon implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationDaemon.class);
+
+    private final StandaloneGenerator generator;
+    private final ServerSocket serverSocket;
+    private final Path portFile;
+    private final String token;
+    private final Set<Path> metaModelRoots = ConcurrentHashMap.newKeySet();
+    private final ExecutorService connections;
+    private final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private volatile boolean running = true;
+
+    public GenerationDaemon(StandaloneGenerator generator, int port, Path portFile) throws IOException {
+        this.generator = generator;
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.portFile = portFile;
+        this.token = newToken();
+        for (String root : generator.property("generator.daemon.meta-model-roots", "").split(",")) {
+            if (!root.isBlank()) {
+                metaModelRoots.add(Paths.get(root.trim()).toAbsolutePath().normalize());
+            }
+        }
+        this.connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "tu-daemon-connection");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (portFile != null) {
+            writePortFile();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        StandaloneGenerator generator = StandaloneGenerator.create();
+        int port = Integer.parseInt(generator.property("generator.daemon.port", "0"));
+        String portFile = generator.property("generator.daemon.port-file", "target/tu-daemon.port");
+
+        try (GenerationDaemon daemon = new GenerationDaemon(generator, port,
+                portFile.isBlank() ? null : Paths.get(portFile))) {
+            Runtime.getRuntime().addShutdownHook(new Thread(daemon::close, "tu-daemon-shutdown"));
+            log.info("Generation daemon listening on {}:{} ({} templates warm)",
+                    daemon.serverSocket.getInetAddress().getHostAddress(), daemon.getPort(),
+                    generator.getTemplateRegistry().getTemplateCount());
+            daemon.serve();
+        } finally {
+            generator.close();
+        }
+    }
+
+    public void serve() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.submit(() -> handleConnection(socket));
+            } catch (SocketException e) {
+                if (running) {
+                    log.warn("Generation daemon socket failed", e);
+                }
+                return;
+            } catch (IOException e) {
+                log.warn("Unable to accept daemon connection", e);
+            }
+        }
+    }
+
+    public DaemonResponse handle(DaemonRequest request) {
+        if (!isAuthorized(request.getToken())) {
+            return DaemonResponse.error("Unauthorized");
+        }
+        if (request.getCommand() == null) {
+            return DaemonResponse.error("Missing command");
+        }
+        try {
+            return switch (request.getCommand()) {
+                case DaemonRequest.PING -> withStats(DaemonResponse.ok("pong"));
+                case DaemonRequest.STATS -> withStats(DaemonResponse.ok("stats"));
+                case DaemonRequest.GENERATE -> withStats(generate(request));
+                case DaemonRequest.INVALIDATE -> invalidate(request);
+                case DaemonRequest.SHUTDOWN -> {
+                    running = false;
+                    closeServerSocket();
+                    yield DaemonResponse.ok("shutting down");
+                }
+                default -> DaemonResponse.error("Unknown command " + request.getCommand());
+            };
+        } catch (RuntimeException e) {
+            log.warn("Daemon request {} failed", request.getCommand(), e);
+            return DaemonResponse.error(e.getMessage());
+        }
+    }
+
+    private DaemonResponse generate(DaemonRequest request) {
+        long start = System.nanoTime();
+        List<Path> metaModelFiles = request.getMetaModels().stream()
+                .map(file -> Paths.get(file).toAbsolutePath().normalize())
+                .toList();
+        if (metaModelFiles.isEmpty()) {
+            return DaemonResponse.error("No meta-model files given");
+        }
+
+        List<Path> knownFiles = knownMetaModelFiles(metaModelFiles);
+        List<EntityMetaModel> entities = generator.getMetaModelCache().loadAll(knownFiles);
+        Map<Path, EntityMetaModel> entitiesByFile = new HashMap<>();
+        for (int i = 0; i < knownFiles.size(); i++) {
+            entitiesByFile.put(knownFiles.get(i), entities.get(i));
+        }
+        List<EntityMetaModel> requested = metaModelFiles.stream().map(entitiesByFile::get).toList();
+        Set<String> renderScope = withRelatedEntities(entities, requested);
+
+        String basePackage = request.getBasePackage() != null
+                ? request.getBasePackage()
+                : generator.getDataModelFactory().basePackage(requested.get(0));
+        GenerationOptions options = request.getProfile() != null
+                ? GenerationOptions.profile(TestProfile.from(request.getProfile()))
+                : GenerationOptions.all();
+        FileWriterService fileWriterService = generator.getFileWriterService();
+
+        DaemonResponse response = DaemonResponse.ok("generated");
+        FileWriteReport writeReport;
+        if (request.isIncremental()) {
+            Path manifestFile = fileWriterService.getOutputRoot()
+                    .resolve(generator.getIncrementalGenerationService().getDefaultManifestFile());
+            IncrementalGenerationResult result = generator.getIncrementalGenerationService()
+                    .generateAndWrite(entities, entity -> renderScope.contains(entity.getName()), basePackage,
+                            manifestFile, options);
+            result.getPlan().getStaleEntities().forEach(entity -> response.getRegeneratedEntities().add(entity.getName()));
+            response.getUnchangedEntities().addAll(result.getPlan().getUnchangedEntities());
+            response.setMessage(result.getSummary());
+            writeReport = result.getWriteReport();
+        } else {
+            List<EntityMetaModel> rendered = entities.stream()
+                    .filter(entity -> renderScope.contains(entity.getName()))
+                    .toList();
+            BatchGenerationResult batchResult = generator.getBatchGenerationEngine().generate(rendered, options);
+            writeReport = new FileWriteReport();
+            for (int i = 0; i < rendered.size(); i++) {
+                writeReport.merge(fileWriterService.writeGeneratedFiles(rendered.get(i), batchResult.getResults().get(i)));
+                response.getRegeneratedEntities().add(rendered.get(i).getName());
+            }
+            GeneratedTestResult securityConfig = generator.getSecurityConfigGenerator()
+                    .generateSecurityConfig(entities, basePackage);
+            writeReport.merge(fileWriterService.writeGeneratedFiles(entities.get(0), securityConfig));
+            response.setMessage(writeReport.getSummary());
+        }
+
+        for (FileWriteEntry entry : writeReport.getWrittenEntries()) {
+            response.getWrittenFiles().add(entry.getPath().toString());
+        }
+        response.setSkippedFiles(writeReport.getSkippedCount());
+        response.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return response;
+    }
+
+    private List<Path> knownMetaModelFiles(List<Path> requestedFiles) {
+        Set<Path> files = new TreeSet<>(requestedFiles);
+        for (Path requestedFile : requestedFiles) {
+            Path directory = requestedFile.getParent();
+            if (directory != null) {
+                collectMetaModelFiles(directory, 1, files);
+            }
+        }
+        for (Path root : metaModelRoots) {
+            collectMetaModelFiles(root, Integer.MAX_VALUE, files);
+        }
+        return new ArrayList<>(files);
+    }
+
+    private static void collectMetaModelFiles(Path directory, int maxDepth, Set<Path> files) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(directory, maxDepth)) {
+            walk.filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(".json"))
+                    .forEach(path -> files.add(path.toAbsolutePath().normalize()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to list meta-models in " + directory, e);
+        }
+    }
+
+    private static Set<String> withRelatedEntities(List<EntityMetaModel> entities, List<EntityMetaModel> requested) {
+        Set<String> scope = new HashSet<>();
+        requested.forEach(entity -> scope.add(entity.getName()));
+        Set<String> related = new HashSet<>(scope);
+        for (EntityMetaModel entity : entities) {
+            if (entity.getRelationships() == null) {
+                continue;
+            }
+            for (RelationshipMetaModel relationship : entity.getRelationships()) {
+                if (scope.contains(entity.getName()) && relationship.getTargetEntity() != null) {
+                    related.add(relationship.getTargetEntity());
+                } else if (scope.contains(relationship.getTargetEntity())) {
+                    related.add(entity.getName());
+                }
+            }
+        }
+        return related;
+    }
+
+    private DaemonResponse invalidate(DaemonRequest request) {
+        MetaModelCache cache = generator.getMetaModelCache();
+        if (request.getMetaModels().isEmpty()) {
+            cache.clear();
+        } else {
+            request.getMetaModels().forEach(file -> cache.invalidate(Paths.get(file)));
+        }
+        return withStats(DaemonResponse.ok("invalidated"));
+    }
+
+    private DaemonResponse withStats(DaemonResponse response) {
+        MetaModelCache cache = generator.getMetaModelCache();
+        response.setCachedMetaModels(cache.size());
+        response.setMetaModelCacheHits(cache.getHits());
+        response.setMetaModelCacheMisses(cache.getMisses());
+        response.setTemplateCount(generator.getTemplateRegistry().getTemplateCount());
+        return response;
+    }
+
+    private void handleConnection(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                DaemonResponse response;
+                try {
+                    response = handle(mapper.readValue(line, DaemonRequest.class));
+                } catch (IOException e) {
+                    response = DaemonResponse.error("Malformed request: " + e.getOriginalMessage());
+                }
+                writer.write(mapper.writeValueAsString(response));
+                writer.newLine();
+                writer.flush();
+                if (!running) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Daemon connection closed", e);
+        }
+    }
+
+    private boolean isAuthorized(String requestToken) {
+        return requestToken != null && MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.UTF_8), requestToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writePortFile() throws IOException {
+        Path parent = portFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.deleteIfExists(portFile);
+        if (portFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            FileAttribute<?> ownerOnly = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+            Files.createFile(portFile, ownerOnly);
+        } else {
+            Files.createFile(portFile);
+        }
+        Files.writeString(portFile, getPort() + System.lineSeparator() + token + System.lineSeparator(),
+                StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private void closeServerSocket() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug("Unable to close daemon socket", e);
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        closeServerSocket();
+        connections.shutdownNow();
+        if (portFile != null) {
+            try {
+                Files.deleteIfExists(portFile);
+            } catch (IOException e) {
+                log.debug("Unable to delete daemon port file {}", portFile, e);
+            }
+        }
+    }
+}
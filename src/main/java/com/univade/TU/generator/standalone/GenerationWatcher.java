@@ -0,0 +1,352 @@
+package com.univade.TU.generator.standalone;
+
+import com.univade.TU.generator.model.BatchGenerationResult;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.FileWriteReport;
+import com.univade.TU.generator.model.GeneratedArtifact;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.model.RelationshipMetaModel;
+import com.univade.TU.generator.service.FileWriterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class GenerationWatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationWatcher.class);
+
+    private static final String DEFAULT_TEMPLATE_DIRECTORY = "src/main/resources/templates";
+    private static final Set<GeneratedArtifact> TEST_ARTIFACTS = EnumSet.of(
+            GeneratedArtifact.REPOSITORY_TEST,
+            GeneratedArtifact.SERVICE_TEST,
+            GeneratedArtifact.CONTROLLER_TEST,
+            GeneratedArtifact.CONTROLLER_INTEGRATION_TEST,
+            GeneratedArtifact.TEST_DATA_BUILDER);
+
+    private final StandaloneGenerator generator;
+    private final List<Path> metaModelDirectories;
+    private final Path templateDirectory;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private final Map<Path, EntityMetaModel> entitiesByFile = new TreeMap<>();
+    private volatile boolean running = true;
+
+    public GenerationWatcher(StandaloneGenerator generator, List<Path> metaModelDirectories,
+                             Path templateDirectory, long debounceMillis) throws IOException {
+        this.generator = generator;
+        this.metaModelDirectories = metaModelDirectories.stream().map(path -> path.toAbsolutePath().normalize()).toList();
+        this.templateDirectory = templateDirectory != null ? templateDirectory.toAbsolutePath().normalize() : null;
+        this.debounceMillis = debounceMillis;
+        this.watchService = FileSystems.getDefault().newWatchService();
+
+        for (Path directory : this.metaModelDirectories) {
+            registerRecursively(directory);
+            scanMetaModels(directory).forEach(this::reloadMetaModel);
+        }
+        if (this.templateDirectory != null) {
+            registerRecursively(this.templateDirectory);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Properties properties = StandaloneGenerator.loadProperties();
+        List<Path> metaModelDirectories = new ArrayList<>();
+        String templateDirectory = properties.getProperty("generator.templates.directory", "");
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-o", "--output" -> properties.setProperty("generator.output.root", args[++i]);
+                case "-t", "--templates" -> templateDirectory = args[++i];
+                case "-d", "--debounce" -> properties.setProperty("generator.watch.debounce-millis", args[++i]);
+                default -> metaModelDirectories.add(Paths.get(args[i]));
+            }
+        }
+        if (metaModelDirectories.isEmpty()) {
+            System.err.println("Usage: GenerationWatcher [--output <dir>] [--templates <dir>] [--debounce <ms>] <meta-model dir>...");
+            System.exit(2);
+        }
+        if (templateDirectory.isBlank() && Files.isDirectory(Paths.get(DEFAULT_TEMPLATE_DIRECTORY))) {
+            templateDirectory = DEFAULT_TEMPLATE_DIRECTORY;
+        }
+        if (!templateDirectory.isBlank()) {
+            properties.setProperty("generator.templates.directory", templateDirectory);
+            properties.setProperty("generator.templates.check-freshness", "true");
+        }
+
+        try (StandaloneGenerator generator = new StandaloneGenerator(properties);
+             GenerationWatcher watcher = new GenerationWatcher(generator, metaModelDirectories,
+                     templateDirectory.isBlank() ? null : Paths.get(templateDirectory),
+                     Long.parseLong(generator.property("generator.watch.debounce-millis", "300")))) {
+            Runtime.getRuntime().addShutdownHook(new Thread(watcher::close, "tu-watch-shutdown"));
+            watcher.regenerateAll();
+            watcher.run();
+        }
+    }
+
+    public void run() {
+        log.info("Watching {} meta-models in {} and templates in {}", entitiesByFile.size(), metaModelDirectories,
+                templateDirectory != null ? templateDirectory : "the classpath (not watched)");
+        try {
+            while (running) {
+                Set<Path> changes = new LinkedHashSet<>();
+                boolean overflow = collect(watchService.take(), changes);
+
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    overflow |= collect(next, changes);
+                }
+
+                if (overflow) {
+                    rescan();
+                    regenerateAll();
+                } else if (!changes.isEmpty()) {
+                    regenerate(changes);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Watch service closed");
+        }
+    }
+
+    public void regenerateAll() {
+        generator.getTemplateRegistry().clearTemplateCache();
+        regenerate(entities(), EnumSet.copyOf(TEST_ARTIFACTS), true);
+    }
+
+    public void regenerate(Set<Path> changes) {
+        Set<String> changedEntities = new TreeSet<>();
+        Set<GeneratedArtifact> changedArtifacts = EnumSet.noneOf(GeneratedArtifact.class);
+        boolean securityConfigChanged = false;
+
+        for (Path change : changes) {
+            if (templateDirectory != null && change.startsWith(templateDirectory)) {
+                if (change.toString().endsWith(".ftl")) {
+                    String template = templateDirectory.relativize(change).toString().replace('\\', '/');
+                    securityConfigChanged |= affectsSecurityConfig(template);
+                    changedArtifacts.addAll(affectedArtifacts(template));
+                }
+            } else if (change.toString().endsWith(".json")) {
+                EntityMetaModel previous = entitiesByFile.get(change);
+                EntityMetaModel current = reloadMetaModel(change);
+                if (previous != null) {
+                    changedEntities.add(previous.getName());
+                }
+                if (current != null) {
+                    changedEntities.add(current.getName());
+                }
+                securityConfigChanged = true;
+            }
+        }
+
+        if (!changedArtifacts.isEmpty() || securityConfigChanged) {
+            generator.getTemplateRegistry().clearTemplateCache();
+        }
+
+        List<EntityMetaModel> entities = entities();
+        Set<String> affectedEntities = withRelatedEntities(changedEntities, entities);
+        List<EntityMetaModel> metaModelTargets = entities.stream()
+                .filter(entity -> affectedEntities.contains(entity.getName()))
+                .toList();
+
+        if (!metaModelTargets.isEmpty()) {
+            regenerate(metaModelTargets, EnumSet.copyOf(TEST_ARTIFACTS), securityConfigChanged);
+            securityConfigChanged = false;
+        }
+        if (!changedArtifacts.isEmpty()) {
+            regenerate(entities, changedArtifacts, securityConfigChanged);
+        } else if (securityConfigChanged) {
+            regenerate(entities, EnumSet.noneOf(GeneratedArtifact.class), true);
+        }
+    }
+
+    private void regenerate(List<EntityMetaModel> entities, Set<GeneratedArtifact> artifacts, boolean securityConfig) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        FileWriterService fileWriterService = generator.getFileWriterService();
+        FileWriteReport writeReport = new FileWriteReport();
+
+        if (!artifacts.isEmpty()) {
+            BatchGenerationResult batchResult = generator.getBatchGenerationEngine()
+                    .generate(entities, GenerationOptions.artifacts(artifacts));
+            for (int i = 0; i < entities.size(); i++) {
+                writeReport.merge(fileWriterService.writeGeneratedFiles(entities.get(i), batchResult.getResults().get(i)));
+            }
+        }
+
+        if (securityConfig) {
+            List<EntityMetaModel> allEntities = entities();
+            String basePackage = generator.getDataModelFactory().basePackage(allEntities.get(0));
+            writeReport.merge(fileWriterService.writeGeneratedFiles(allEntities.get(0),
+                    generator.getSecurityConfigGenerator().generateSecurityConfig(allEntities, basePackage)));
+        }
+
+        log.info("Regenerated {} {}{} in {} ms: {}",
+                entities.stream().map(EntityMetaModel::getName).toList(), artifacts,
+                securityConfig ? " + TestSecurityConfig" : "",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), writeReport.getSummary());
+    }
+
+    private Set<GeneratedArtifact> affectedArtifacts(String template) {
+        if (template.startsWith("repository/")) {
+            return EnumSet.of(GeneratedArtifact.REPOSITORY_TEST);
+        }
+        if (template.startsWith("service/")) {
+            return EnumSet.of(GeneratedArtifact.SERVICE_TEST);
+        }
+        if (template.startsWith("controller/")) {
+            return EnumSet.of(GeneratedArtifact.CONTROLLER_TEST, GeneratedArtifact.CONTROLLER_INTEGRATION_TEST);
+        }
+        if (template.equals("test-data-builder.ftl")) {
+            return EnumSet.of(GeneratedArtifact.TEST_DATA_BUILDER);
+        }
+        if (template.startsWith("config/") || template.startsWith("dto/") || template.startsWith("benchmark/")
+                || template.startsWith("loadtest/")) {
+            return EnumSet.noneOf(GeneratedArtifact.class);
+        }
+        return EnumSet.copyOf(TEST_ARTIFACTS);
+    }
+
+    private boolean affectsSecurityConfig(String template) {
+        return template.startsWith("config/") || !template.contains("/") && !template.equals("test-data-builder.ftl");
+    }
+
+    private Set<String> withRelatedEntities(Set<String> changedEntities, List<EntityMetaModel> entities) {
+        Set<String> affected = new TreeSet<>(changedEntities);
+        for (EntityMetaModel entity : entities) {
+            if (entity.getRelationships() == null) {
+                continue;
+            }
+            for (RelationshipMetaModel relationship : entity.getRelationships()) {
+                if (changedEntities.contains(relationship.getTargetEntity())) {
+                    affected.add(entity.getName());
+                }
+                if (changedEntities.contains(entity.getName()) && relationship.getTargetEntity() != null) {
+                    affected.add(relationship.getTargetEntity());
+                }
+            }
+        }
+        return affected;
+    }
+
+    private boolean collect(WatchKey key, Set<Path> changes) {
+        Path directory = watchedDirectories.get(key);
+        boolean overflow = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+                continue;
+            }
+            if (directory == null) {
+                continue;
+            }
+            Path changed = directory.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+                try {
+                    registerRecursively(changed);
+                    scanMetaModels(changed).forEach(changes::add);
+                } catch (IOException e) {
+                    log.warn("Unable to watch {}", changed, e);
+                }
+                continue;
+            }
+            changes.add(changed);
+        }
+        if (!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+        return overflow;
+    }
+
+    private EntityMetaModel reloadMetaModel(Path metaModelFile) {
+        MetaModelCache cache = generator.getMetaModelCache();
+        if (!Files.isRegularFile(metaModelFile)) {
+            cache.invalidate(metaModelFile);
+            entitiesByFile.remove(metaModelFile);
+            return null;
+        }
+        try {
+            EntityMetaModel entity = cache.load(metaModelFile);
+            entitiesByFile.put(metaModelFile, entity);
+            return entity;
+        } catch (RuntimeException e) {
+            log.warn("Ignoring invalid meta-model {}: {}", metaModelFile, e.getMessage());
+            return entitiesByFile.get(metaModelFile);
+        }
+    }
+
+    private void rescan() {
+        entitiesByFile.clear();
+        for (Path directory : metaModelDirectories) {
+            scanMetaModels(directory).forEach(this::reloadMetaModel);
+        }
+    }
+
+    private List<EntityMetaModel> entities() {
+        return new ArrayList<>(entitiesByFile.values());
+    }
+
+    private void registerRecursively(Path root) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path directory : walk.filter(Files::isDirectory).toList()) {
+                WatchKey key = directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+                watchedDirectories.put(key, directory);
+            }
+        }
+    }
+
+    private static List<Path> scanMetaModels(Path directory) {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            return walk.filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(".json"))
+                    .map(path -> path.toAbsolutePath().normalize())
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to list meta-models in " + directory, e);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Unable to close watch service", e);
+        }
+    }
+}
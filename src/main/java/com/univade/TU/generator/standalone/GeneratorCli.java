@@ -0,0 +1,265 @@
+package com.univade.TU.generator.standalone;
+
+import com.univade.TU.generator.model.BatchGenerationResult;
+import com.univade.TU.generator.model.BundleGenerationResult;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.FileWriteReport;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import com.univade.TU.generator.model.GenerationJobTiming;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.model.IncrementalGenerationResult;
+import com.univade.TU.generator.service.FileWriterService;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public final class GeneratorCli {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: GeneratorCli [options] <meta-model file or directory>...",
+            "  -b, --bundle <file>        stream a JSON array of meta-models (repeatable)",
+            "  -o, --output <dir>         output root that src/test/java and src/main/java are resolved against",
+            "  -p, --parallel <n>         number of generation workers (0 = available processors)",
+            "  -e, --executor <type>      serial, fork-join or virtual-threads",
+            "  -i, --incremental          skip entities whose meta-model, templates and generator are unchanged",
+            "  -s, --stream               render each file straight to disk instead of buffering the batch",
+            "      --profile <name>       full, core or smoke",
+            "      --parallel-safe        emit tests safe for JUnit parallel execution",
+            "      --benchmarks           also emit a JMH benchmark per entity",
+            "      --load-tests           also emit an offline HTTP load harness per entity",
+            "      --base-package <pkg>   package of the generated TestSecurityConfig (default: first entity)",
+            "  -h, --help                 print this help");
+
+    private final PrintStream out;
+
+    public GeneratorCli(PrintStream out) {
+        this.out = out;
+    }
+
+    public static void main(String[] args) {
+        int exitCode;
+        try {
+            exitCode = new GeneratorCli(System.out).run(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            exitCode = 2;
+        } catch (RuntimeException e) {
+            System.err.println("Generation failed: " + e.getMessage());
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+
+    public int run(String[] args) {
+        long start = System.nanoTime();
+        Arguments arguments = Arguments.parse(args);
+        if (arguments.help()) {
+            out.println(USAGE);
+            return 0;
+        }
+
+        Properties properties = StandaloneGenerator.loadProperties();
+        properties.putAll(arguments.overrides());
+
+        long bootstrapStart = System.nanoTime();
+        try (StandaloneGenerator generator = new StandaloneGenerator(properties)) {
+            long bootstrapNanos = System.nanoTime() - bootstrapStart;
+
+            if (!arguments.bundles().isEmpty()) {
+                return runBundles(generator, arguments, bootstrapNanos, start);
+            }
+
+            long loadStart = System.nanoTime();
+            List<Path> metaModelFiles = collectMetaModelFiles(arguments.inputs());
+            List<EntityMetaModel> entities = generator.getMetaModelCache().loadAll(metaModelFiles);
+            long loadNanos = System.nanoTime() - loadStart;
+            if (entities.isEmpty()) {
+                out.println("No meta-model files found in " + arguments.inputs());
+                return 1;
+            }
+
+            String basePackage = arguments.basePackage() != null
+                    ? arguments.basePackage()
+                    : generator.getDataModelFactory().basePackage(entities.get(0));
+
+            long generateStart = System.nanoTime();
+            BatchGenerationResult batchResult;
+            FileWriteReport writeReport;
+            String summary;
+            if (arguments.incremental()) {
+                FileWriterService fileWriterService = generator.getFileWriterService();
+                Path manifestFile = fileWriterService.getOutputRoot()
+                        .resolve(generator.getIncrementalGenerationService().getDefaultManifestFile());
+                IncrementalGenerationResult result = generator.getIncrementalGenerationService()
+                        .generateAndWrite(entities, basePackage, manifestFile, arguments.options());
+                batchResult = result.getBatchResult();
+                writeReport = result.getWriteReport();
+                summary = result.getSummary();
+            } else if (arguments.stream()) {
+                batchResult = null;
+                writeReport = generator.getStreamingGenerationService().generateToDisk(entities, arguments.options());
+                GeneratedTestResult securityConfig = generator.getSecurityConfigGenerator()
+                        .generateSecurityConfig(entities, basePackage);
+                writeReport.merge(generator.getFileWriterService().writeGeneratedFiles(entities.get(0), securityConfig));
+                summary = "Streamed " + entities.size() + " entities; " + writeReport.getSummary();
+            } else {
+                batchResult = generator.getBatchGenerationEngine().generate(entities, arguments.options());
+                writeReport = new FileWriteReport();
+                for (int i = 0; i < entities.size(); i++) {
+                    writeReport.merge(generator.getFileWriterService()
+                            .writeGeneratedFiles(entities.get(i), batchResult.getResults().get(i)));
+                }
+                GeneratedTestResult securityConfig = generator.getSecurityConfigGenerator()
+                        .generateSecurityConfig(entities, basePackage);
+                writeReport.merge(generator.getFileWriterService().writeGeneratedFiles(entities.get(0), securityConfig));
+                summary = batchResult.getSummary() + "; " + writeReport.getSummary();
+            }
+            long generateNanos = System.nanoTime() - generateStart;
+
+            printSummary(generator, entities.size(), summary, batchResult,
+                    bootstrapNanos, loadNanos, generateNanos, System.nanoTime() - start);
+            return 0;
+        }
+    }
+
+    private int runBundles(StandaloneGenerator generator, Arguments arguments, long bootstrapNanos, long start) {
+        long generateStart = System.nanoTime();
+        List<String> summaries = new ArrayList<>();
+        int entityCount = 0;
+        for (Path bundle : arguments.bundles()) {
+            BundleGenerationResult result = generator.getBundleGenerationService()
+                    .generate(bundle, arguments.options(), arguments.basePackage());
+            entityCount += result.getEntityCount();
+            summaries.add(bundle.getFileName() + ": " + result.getSummary());
+        }
+        printSummary(generator, entityCount, String.join(System.lineSeparator(), summaries), null,
+                bootstrapNanos, 0, System.nanoTime() - generateStart, System.nanoTime() - start);
+        return 0;
+    }
+
+    private void printSummary(StandaloneGenerator generator, int entityCount, String summary,
+                              BatchGenerationResult batchResult, long bootstrapNanos, long loadNanos,
+                              long generateNanos, long totalNanos) {
+        out.println(summary);
+        out.println("Output root: " + generator.getFileWriterService().getOutputRoot().toAbsolutePath().normalize());
+        out.println("Timing summary:");
+        out.printf("  bootstrap   %6d ms (%d templates parsed in %d ms)%n", millis(bootstrapNanos),
+                generator.getTemplateRegistry().getTemplateCount(),
+                generator.getTemplateRegistry().getStartupParseMillis());
+        out.printf("  load        %6d ms (%d meta-models)%n", millis(loadNanos), entityCount);
+        out.printf("  generate    %6d ms (render and write)%n", millis(generateNanos));
+        out.printf("  total       %6d ms%n", millis(totalNanos));
+        if (batchResult != null && batchResult.getJobCount() > 0) {
+            out.println("Slowest jobs:");
+            for (GenerationJobTiming timing : batchResult.getSlowestJobs(5)) {
+                out.println("  " + timing);
+            }
+        }
+    }
+
+    private static List<Path> collectMetaModelFiles(List<Path> inputs) {
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (!Files.isDirectory(input)) {
+                files.add(input);
+                continue;
+            }
+            try (Stream<Path> walk = Files.walk(input)) {
+                walk.filter(Files::isRegularFile)
+                        .filter(path -> path.getFileName().toString().endsWith(".json"))
+                        .sorted()
+                        .forEach(files::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to list meta-models in " + input, e);
+            }
+        }
+        return files;
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    record Arguments(List<Path> inputs, List<Path> bundles, Properties overrides, boolean incremental,
+                     boolean stream, boolean benchmarks, boolean loadTests, String basePackage, boolean help) {
+
+        GenerationOptions options() {
+            return GenerationOptions.builder()
+                    .includeBenchmark(benchmarks)
+                    .includeLoadTest(loadTests)
+                    .build();
+        }
+
+        static Arguments parse(String[] args) {
+            List<Path> inputs = new ArrayList<>();
+            List<Path> bundles = new ArrayList<>();
+            Properties overrides = new Properties();
+            boolean incremental = false;
+            boolean stream = false;
+            boolean benchmarks = false;
+            boolean loadTests = false;
+            String basePackage = null;
+
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "-h", "--help" -> {
+                        return new Arguments(inputs, bundles, overrides, false, false, false, false, null, true);
+                    }
+                    case "-b", "--bundle" -> bundles.add(Paths.get(value(args, ++i, arg)));
+                    case "-o", "--output" -> overrides.setProperty("generator.output.root", value(args, ++i, arg));
+                    case "-p", "--parallel" -> overrides.setProperty("generator.batch.parallelism", value(args, ++i, arg));
+                    case "-e", "--executor" -> overrides.setProperty("generator.batch.executor", value(args, ++i, arg));
+                    case "-i", "--incremental" -> incremental = true;
+                    case "-s", "--stream" -> stream = true;
+                    case "--benchmarks" -> benchmarks = true;
+                    case "--load-tests" -> loadTests = true;
+                    case "--profile" -> overrides.setProperty("generator.profile.default", value(args, ++i, arg));
+                    case "--parallel-safe" -> overrides.setProperty("generator.tests.parallel-safe", "true");
+                    case "--base-package" -> basePackage = value(args, ++i, arg);
+                    default -> {
+                        if (arg.startsWith("-")) {
+                            throw new IllegalArgumentException("Unknown option " + arg);
+                        }
+                        inputs.add(Paths.get(arg));
+                    }
+                }
+            }
+
+            if (inputs.isEmpty() && bundles.isEmpty()) {
+                throw new IllegalArgumentException("At least one meta-model file or directory is required");
+            }
+            if ("1".equals(overrides.getProperty("generator.batch.parallelism"))
+                    && !overrides.containsKey("generator.batch.executor")) {
+                overrides.setProperty("generator.batch.executor", "serial");
+            }
+            if (incremental && !bundles.isEmpty()) {
+                throw new IllegalArgumentException("--incremental cannot be combined with --bundle");
+            }
+            if (stream && incremental) {
+                throw new IllegalArgumentException("--stream cannot be combined with --incremental");
+            }
+            if (stream && !bundles.isEmpty()) {
+                throw new IllegalArgumentException("--stream cannot be combined with --bundle");
+            }
+            return new Arguments(inputs, bundles, overrides, incremental, stream, benchmarks, loadTests, basePackage, false);
+        }
+
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            return args[index];
+        }
+    }
+}
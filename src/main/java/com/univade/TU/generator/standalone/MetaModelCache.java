@@ -0,0 +1,141 @@
+package com.univade.TU.generator.standalone;
+
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import com.univade.TU.generator.snapshot.MetaModelSnapshotService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MetaModelCache {
+
+    private final EntityMetaModelParser parser;
+    private final MetaModelSnapshotService snapshotService;
+    private final Path snapshotFile;
+    private final Map<Path, CachedMetaModel> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public MetaModelCache(EntityMetaModelParser parser) {
+        this(parser, null, null);
+    }
+
+    public MetaModelCache(EntityMetaModelParser parser, MetaModelSnapshotService snapshotService, Path snapshotFile) {
+        this.parser = parser;
+        this.snapshotService = snapshotService;
+        this.snapshotFile = snapshotFile;
+    }
+
+    public EntityMetaModel load(Path metaModelFile) {
+        Path key = metaModelFile.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = readAttributes(key);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+
+        CachedMetaModel cached = entries.get(key);
+        if (cached != null && cached.lastModified() == lastModified && cached.size() == size) {
+            hits.incrementAndGet();
+            return cached.entity();
+        }
+
+        misses.incrementAndGet();
+        EntityMetaModel entity = parse(key);
+        entries.put(key, new CachedMetaModel(lastModified, size, entity));
+        return entity;
+    }
+
+    public List<EntityMetaModel> loadAll(List<Path> metaModelFiles) {
+        if (snapshotService != null && !metaModelFiles.stream().allMatch(this::isCurrent)) {
+            return loadThroughSnapshot(metaModelFiles);
+        }
+        List<EntityMetaModel> entities = new ArrayList<>(metaModelFiles.size());
+        for (Path metaModelFile : metaModelFiles) {
+            entities.add(load(metaModelFile));
+        }
+        return entities;
+    }
+
+    private List<EntityMetaModel> loadThroughSnapshot(List<Path> metaModelFiles) {
+        List<Path> keys = new ArrayList<>(metaModelFiles.size());
+        List<BasicFileAttributes> attributes = new ArrayList<>(metaModelFiles.size());
+        for (Path metaModelFile : metaModelFiles) {
+            Path key = metaModelFile.toAbsolutePath().normalize();
+            if (isCurrent(key)) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+            }
+            keys.add(key);
+            attributes.add(readAttributes(key));
+        }
+
+        List<EntityMetaModel> loaded = snapshotService.loadOrParse(keys, snapshotFile);
+        List<EntityMetaModel> entities = new ArrayList<>(loaded.size());
+        for (int i = 0; i < keys.size(); i++) {
+            EntityMetaModel entity = loaded.get(i).freeze();
+            entries.put(keys.get(i), new CachedMetaModel(attributes.get(i).lastModifiedTime().toMillis(),
+                    attributes.get(i).size(), entity));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private boolean isCurrent(Path metaModelFile) {
+        Path key = metaModelFile.toAbsolutePath().normalize();
+        CachedMetaModel cached = entries.get(key);
+        if (cached == null) {
+            return false;
+        }
+        BasicFileAttributes attributes = readAttributes(key);
+        return cached.lastModified() == attributes.lastModifiedTime().toMillis() && cached.size() == attributes.size();
+    }
+
+    public void invalidate(Path metaModelFile) {
+        entries.remove(metaModelFile.toAbsolutePath().normalize());
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private EntityMetaModel parse(Path metaModelFile) {
+        try {
+            EntityMetaModel entity = parser.parseFromJson(Files.readString(metaModelFile, StandardCharsets.UTF_8));
+            return EntityMetaModelParser.normalizeEntityPackage(entity).freeze();
+        } catch (IOException e) {
+            throw new TestGenerationException("Unable to read meta-model " + metaModelFile, e);
+        }
+    }
+
+    private BasicFileAttributes readAttributes(Path metaModelFile) {
+        try {
+            return Files.readAttributes(metaModelFile, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new TestGenerationException("Unable to read meta-model " + metaModelFile, e);
+        }
+    }
+
+    private record CachedMetaModel(long lastModified, long size, EntityMetaModel entity) {
+    }
+}
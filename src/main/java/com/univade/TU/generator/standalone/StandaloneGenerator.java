@@ -0,0 +1,231 @@
+package com.univade.TU.generator.standalone;
+
+import com.univade.TU.generator.config.FreemarkerConfig;
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.GenerationMetrics;
+import com.univade.TU.generator.metrics.MicrometerGenerationMetrics;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import com.univade.TU.generator.parser.MetaModelBundleReader;
+import com.univade.TU.generator.service.BatchGenerationEngine;
+import com.univade.TU.generator.service.BenchmarkGenerator;
+import com.univade.TU.generator.service.BundleGenerationService;
+import com.univade.TU.generator.service.ControllerTestGenerator;
+import com.univade.TU.generator.service.DtoGenerator;
+import com.univade.TU.generator.service.FileWriterService;
+import com.univade.TU.generator.service.IncrementalGenerationService;
+import com.univade.TU.generator.service.LoadTestGenerator;
+import com.univade.TU.generator.service.RepositoryTestGenerator;
+import com.univade.TU.generator.service.SecurityConfigGenerator;
+import com.univade.TU.generator.service.ServiceTestGenerator;
+import com.univade.TU.generator.service.StreamingGenerationService;
+import com.univade.TU.generator.service.TestGeneratorService;
+import com.univade.TU.generator.snapshot.MetaModelSnapshotService;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
+import com.univade.TU.generator.template.TestProfileResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+public class StandaloneGenerator implements AutoCloseable {
+
+    private static final String PROPERTY_PREFIX = "generator.";
+    private static final String PROPERTIES_RESOURCE = "application.properties";
+
+    private final Properties properties;
+    private final GenerationMetrics metrics;
+    private final TemplateRegistry templateRegistry;
+    private final EntityMetaModelParser parser;
+    private final DataModelFactory dataModelFactory;
+    private final RepositoryTestGenerator repositoryTestGenerator;
+    private final ServiceTestGenerator serviceTestGenerator;
+    private final ControllerTestGenerator controllerTestGenerator;
+    private final DtoGenerator dtoGenerator;
+    private final BenchmarkGenerator benchmarkGenerator;
+    private final LoadTestGenerator loadTestGenerator;
+    private final FileWriterService fileWriterService;
+    private final TestGeneratorService testGeneratorService;
+    private final BatchGenerationEngine batchGenerationEngine;
+    private final StreamingGenerationService streamingGenerationService;
+    private final SecurityConfigGenerator securityConfigGenerator;
+    private final IncrementalGenerationService incrementalGenerationService;
+    private final MetaModelSnapshotService snapshotService;
+    private final MetaModelCache metaModelCache;
+    private final BundleGenerationService bundleGenerationService;
+
+    public StandaloneGenerator(Properties properties) {
+        this.properties = properties;
+
+        boolean checkFreshness = Boolean.parseBoolean(property("generator.templates.check-freshness", "false"));
+        this.metrics = createMetrics();
+        String templateDirectory = property("generator.templates.directory", "");
+        this.templateRegistry = new TemplateRegistry(templateDirectory.isBlank()
+                ? new FreemarkerConfig().freemarkerConfiguration(checkFreshness)
+                : new FreemarkerConfig().fileSystemConfiguration(Paths.get(templateDirectory), checkFreshness),
+                checkFreshness, metrics);
+        this.parser = new EntityMetaModelParser();
+        this.dataModelFactory = new DataModelFactory(new TestProfileResolver(
+                property("generator.profile.default", "full"),
+                property("generator.profile.entities", ""),
+                property("generator.suites.exclude", "")),
+                property("generator.data.seed", ""),
+                Boolean.parseBoolean(property("generator.tests.parallel-safe", "false")));
+        this.dtoGenerator = new DtoGenerator(templateRegistry, parser, dataModelFactory);
+        this.repositoryTestGenerator = new RepositoryTestGenerator(templateRegistry, parser, dataModelFactory);
+        this.serviceTestGenerator = new ServiceTestGenerator(templateRegistry, parser, dataModelFactory);
+        this.controllerTestGenerator = new ControllerTestGenerator(templateRegistry, parser, dataModelFactory, dtoGenerator);
+        this.fileWriterService = new FileWriterService(property("generator.output.root", ""));
+        this.benchmarkGenerator = new BenchmarkGenerator(templateRegistry, parser, dataModelFactory,
+                Integer.parseInt(property("generator.benchmark.dataset-size", "1000")));
+        this.loadTestGenerator = new LoadTestGenerator(templateRegistry, parser, dataModelFactory);
+        this.testGeneratorService = new TestGeneratorService(templateRegistry, parser, fileWriterService, dataModelFactory,
+                repositoryTestGenerator, serviceTestGenerator, controllerTestGenerator, dtoGenerator, benchmarkGenerator,
+                loadTestGenerator);
+        this.batchGenerationEngine = new BatchGenerationEngine(testGeneratorService,
+                property("generator.batch.executor", "fork-join"),
+                Integer.parseInt(property("generator.batch.parallelism", "0")));
+        this.streamingGenerationService = new StreamingGenerationService(testGeneratorService, fileWriterService);
+        this.securityConfigGenerator = new SecurityConfigGenerator(templateRegistry,
+                Boolean.parseBoolean(property("generator.tests.parallel-safe", "false")));
+        this.incrementalGenerationService = new IncrementalGenerationService(batchGenerationEngine, securityConfigGenerator,
+                fileWriterService, templateRegistry, dataModelFactory,
+                property("generator.incremental.manifest", "target/tu-generation-manifest.json"));
+        this.snapshotService = new MetaModelSnapshotService(parser,
+                property("generator.snapshot.file", "target/tu-metamodel.snapshot"));
+        this.metaModelCache = new MetaModelCache(parser, snapshotService,
+                fileWriterService.getOutputRoot().resolve(snapshotService.getDefaultSnapshotFile()));
+        this.bundleGenerationService = new BundleGenerationService(new MetaModelBundleReader(), testGeneratorService,
+                fileWriterService, securityConfigGenerator, batchGenerationEngine.getParallelism());
+    }
+
+    public static StandaloneGenerator create() {
+        return new StandaloneGenerator(loadProperties());
+    }
+
+    public static Properties loadProperties() {
+        Properties properties = new Properties();
+        ClassPathResource resource = new ClassPathResource(PROPERTIES_RESOURCE);
+        if (resource.exists()) {
+            try {
+                PropertiesLoaderUtils.fillProperties(properties, resource);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to read " + PROPERTIES_RESOURCE, e);
+            }
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PROPERTY_PREFIX))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+        return properties;
+    }
+
+    public String property(String name, String defaultValue) {
+        return properties.getProperty(name, defaultValue);
+    }
+
+    private GenerationMetrics createMetrics() {
+        if (!Boolean.parseBoolean(property("generator.metrics.enabled", "false"))) {
+            return GenerationMetrics.NOOP;
+        }
+        if (!ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry", StandaloneGenerator.class.getClassLoader())) {
+            throw new TestGenerationException("generator.metrics.enabled requires micrometer-core on the classpath");
+        }
+        String dumpFile = property("generator.metrics.dump-file", "");
+        return new MicrometerGenerationMetrics(new SimpleMeterRegistry(), dumpFile.isBlank() ? null : Paths.get(dumpFile));
+    }
+
+    public Properties getProperties() {
+        return properties;
+    }
+
+    public GenerationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public TemplateRegistry getTemplateRegistry() {
+        return templateRegistry;
+    }
+
+    public EntityMetaModelParser getParser() {
+        return parser;
+    }
+
+    public DataModelFactory getDataModelFactory() {
+        return dataModelFactory;
+    }
+
+    public RepositoryTestGenerator getRepositoryTestGenerator() {
+        return repositoryTestGenerator;
+    }
+
+    public ServiceTestGenerator getServiceTestGenerator() {
+        return serviceTestGenerator;
+    }
+
+    public ControllerTestGenerator getControllerTestGenerator() {
+        return controllerTestGenerator;
+    }
+
+    public BenchmarkGenerator getBenchmarkGenerator() {
+        return benchmarkGenerator;
+    }
+
+    public LoadTestGenerator getLoadTestGenerator() {
+        return loadTestGenerator;
+    }
+
+    public DtoGenerator getDtoGenerator() {
+        return dtoGenerator;
+    }
+
+    public FileWriterService getFileWriterService() {
+        return fileWriterService;
+    }
+
+    public TestGeneratorService getTestGeneratorService() {
+        return testGeneratorService;
+    }
+
+    public BatchGenerationEngine getBatchGenerationEngine() {
+        return batchGenerationEngine;
+    }
+
+    public StreamingGenerationService getStreamingGenerationService() {
+        return streamingGenerationService;
+    }
+
+    public SecurityConfigGenerator getSecurityConfigGenerator() {
+        return securityConfigGenerator;
+    }
+
+    public IncrementalGenerationService getIncrementalGenerationService() {
+        return incrementalGenerationService;
+    }
+
+    public MetaModelSnapshotService getSnapshotService() {
+        return snapshotService;
+    }
+
+    public MetaModelCache getMetaModelCache() {
+        return metaModelCache;
+    }
+
+    public BundleGenerationService getBundleGenerationService() {
+        return bundleGenerationService;
+    }
+
+    @Override
+    public void close() {
+        if (metrics instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to close generation metrics", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.univade.TU.generator.template;
+
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.FrozenEntityMetaModel;
+import com.univade.TU.generator.model.SuiteSelection;
+import com.univade.TU.generator.util.TemplateUtils;
+import com.univade.TU.generator.util.TestDataGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class DataModelFactory {
+
+    public static final String BASE_MODEL_KEY = "dataModel.base";
+
+    private static final AtomicLong INSTANCE_IDS = new AtomicLong();
+
+    private final String baseModelKey = BASE_MODEL_KEY + "#" + INSTANCE_IDS.incrementAndGet();
+    private final TemplateUtils templateUtils;
+    private final TestDataGenerator testDataGenerator;
+    private final TestProfileResolver profileResolver;
+    private final boolean parallelSafe;
+
+    public DataModelFactory() {
+        this(new TestProfileResolver());
+    }
+
+    public DataModelFactory(TestProfileResolver profileResolver) {
+        this(new TemplateUtils(), new TestDataGenerator(), profileResolver);
+    }
+
+    public DataModelFactory(TestProfileResolver profileResolver, String seed) {
+        this(profileResolver, seed, false);
+    }
+
+    @Autowired
+    public DataModelFactory(TestProfileResolver profileResolver,
+                            @Value("${generator.data.seed:}") String seed,
+                            @Value("${generator.tests.parallel-safe:false}") boolean parallelSafe) {
+        this(new TemplateUtils(), TestDataGenerator.fromSeed(seed), profileResolver, parallelSafe);
+    }
+
+    public DataModelFactory(TemplateUtils templateUtils, TestDataGenerator testDataGenerator) {
+        this(templateUtils, testDataGenerator, new TestProfileResolver());
+    }
+
+    public DataModelFactory(TemplateUtils templateUtils, TestDataGenerator testDataGenerator,
+                            TestProfileResolver profileResolver) {
+        this(templateUtils, testDataGenerator, profileResolver, false);
+    }
+
+    public DataModelFactory(TemplateUtils templateUtils, TestDataGenerator testDataGenerator,
+                            TestProfileResolver profileResolver, boolean parallelSafe) {
+        this.templateUtils = templateUtils;
+        this.testDataGenerator = testDataGenerator;
+        this.profileResolver = profileResolver;
+        this.parallelSafe = parallelSafe;
+    }
+
+    public Map<String, Object> base(EntityMetaModel entity) {
+        return derive(entity, baseModelKey, this::buildBase);
+    }
+
+    public Map<String, Object> layer(EntityMetaModel entity, Map<String, Object> overlay) {
+        return new LayeredDataModel(base(entity), overlay);
+    }
+
+    public <T> T derive(EntityMetaModel entity, String key, Function<? super EntityMetaModel, T> computation) {
+        if (entity instanceof FrozenEntityMetaModel frozen) {
+            return frozen.derive(key, computation);
+        }
+        return computation.apply(entity);
+    }
+
+    public <T> List<T> deriveList(EntityMetaModel entity, String key, Function<? super EntityMetaModel, List<T>> computation) {
+        return derive(entity, key, target -> Collections.unmodifiableList(computation.apply(target)));
+    }
+
+    public SuiteSelection suites(EntityMetaModel entity) {
+        return (SuiteSelection) base(entity).get("suites");
+    }
+
+    public String basePackage(EntityMetaModel entity) {
+        return (String) base(entity).get("basePackage");
+    }
+
+    public TemplateUtils getTemplateUtils() {
+        return templateUtils;
+    }
+
+    public TestDataGenerator getTestDataGenerator() {
+        return testDataGenerator;
+    }
+
+    public TestProfileResolver getProfileResolver() {
+        return profileResolver;
+    }
+
+    public boolean isParallelSafe() {
+        return parallelSafe;
+    }
+
+    private Map<String, Object> buildBase(EntityMetaModel entity) {
+        String basePackage = entity.getPackageName().replace(".entity", "");
+
+        Map<String, Object> base = new HashMap<>();
+        base.put("entity", entity);
+        base.put("utils", templateUtils);
+        base.put("templateUtils", templateUtils);
+        base.put("generator", testDataGenerator.forEntity(entity.getName()));
+        base.put("packageName", entity.getPackageName());
+        base.put("basePackage", basePackage);
+        base.put("repositoryPackage", basePackage + ".repository");
+        base.put("servicePackage", basePackage + ".service");
+        base.put("controllerPackage", basePackage + ".controller");
+        base.put("builderPackage", basePackage + ".testdata");
+        base.put("suites", profileResolver.resolve(entity));
+        base.put("parallelSafe", parallelSafe);
+        return Collections.unmodifiableMap(base);
+    }
+}
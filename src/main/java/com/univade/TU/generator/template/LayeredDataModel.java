@@ -0,0 +1,59 @@
+package com.univade.TU.generator.template;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public final class LayeredDataModel extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> base;
+    private final Map<String, Object> overlay;
+
+    public LayeredDataModel(Map<String, Object> base, Map<String, Object> overlay) {
+        this.base = base;
+        this.overlay = overlay;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = overlay.get(key);
+        return value != null || overlay.containsKey(key) ? value : base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return overlay.containsKey(key) || base.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return merged().entrySet().iterator();
+            }
+
+            @Override
+            public int size() {
+                return merged().size();
+            }
+        };
+    }
+
+    public Map<String, Object> getBase() {
+        return base;
+    }
+
+    public Map<String, Object> getOverlay() {
+        return overlay;
+    }
+
+    private Map<String, Object> merged() {
+        Map<String, Object> merged = new LinkedHashMap<>(base);
+        merged.putAll(overlay);
+        return merged;
+    }
+}
@@ -0,0 +1,247 @@
+package com.univade.TU.generator.template;
+
+import com.univade.TU.generator.config.FreemarkerConfig;
+import com.univade.TU.generator.exception.TestGenerationException;
+import com.univade.TU.generator.metrics.CountingWriter;
+import com.univade.TU.generator.metrics.GenerationMetrics;
+import com.univade.TU.generator.util.MetaModelHasher;
+import freemarker.cache.FileTemplateLoader;
+import freemarker.cache.MultiTemplateLoader;
+import freemarker.cache.TemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+@Component
+public class TemplateRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateRegistry.class);
+
+    private static final String TEMPLATE_PATTERN = "classpath*:" + FreemarkerConfig.TEMPLATE_BASE_PATH + "/**/*.ftl";
+    private static final String TEMPLATE_DIRECTORY_MARKER = FreemarkerConfig.TEMPLATE_BASE_PATH + "/";
+    private static final String TEMPLATE_EXTENSION = ".ftl";
+
+    private final Configuration freemarkerConfig;
+    private final boolean checkFreshness;
+    private final GenerationMetrics metrics;
+    private final Map<String, Template> templates;
+    private final Map<String, Long> parseNanosByTemplate;
+    private final Map<String, String> contentHashes;
+    private final long startupParseNanos;
+
+    public TemplateRegistry(Configuration freemarkerConfig, boolean checkFreshness) {
+        this(freemarkerConfig, checkFreshness, GenerationMetrics.NOOP);
+    }
+
+    @Autowired
+    public TemplateRegistry(@Qualifier("freemarkerConfiguration") Configuration freemarkerConfig,
+                            @Value("${generator.templates.check-freshness:false}") boolean checkFreshness,
+                            GenerationMetrics metrics) {
+        this.freemarkerConfig = freemarkerConfig;
+        this.checkFreshness = checkFreshness;
+        this.metrics = metrics;
+        freemarkerConfig.setSharedVariable(TimedIncludeDirective.NAME, new TimedIncludeDirective(metrics));
+
+        Map<String, Template> parsed = new TreeMap<>();
+        Map<String, Long> parseNanos = new TreeMap<>();
+        Map<String, String> hashes = new TreeMap<>();
+
+        long start = System.nanoTime();
+        for (String templateName : discoverTemplates()) {
+            hashes.put(templateName, hashSource(templateName));
+            long templateStart = System.nanoTime();
+            parsed.put(templateName, loadTemplate(templateName));
+            parseNanos.put(templateName, System.nanoTime() - templateStart);
+        }
+        this.startupParseNanos = System.nanoTime() - start;
+
+        this.templates = Map.copyOf(parsed);
+        this.parseNanosByTemplate = Collections.unmodifiableMap(parseNanos);
+        this.contentHashes = Collections.unmodifiableMap(hashes);
+
+        log.info("Parsed {} templates in {} ms (freshness checks {})", templates.size(),
+                TimeUnit.NANOSECONDS.toMillis(startupParseNanos), checkFreshness ? "enabled" : "disabled");
+    }
+
+    public Template getTemplate(String templateName) {
+        if (checkFreshness) {
+            return loadTemplate(templateName);
+        }
+        Template template = templates.get(templateName);
+        return template != null ? template : loadTemplate(templateName);
+    }
+
+    public String render(String templateName, Object dataModel) {
+        StringWriter writer = new StringWriter();
+        render(templateName, dataModel, writer);
+        return writer.toString();
+    }
+
+    public void render(String templateName, Object dataModel, Writer writer) {
+        Template template = getTemplate(templateName);
+        try {
+            if (!metrics.isEnabled()) {
+                template.process(dataModel, writer);
+                return;
+            }
+            CountingWriter out = new CountingWriter(writer);
+            long start = metrics.start();
+            template.process(dataModel, out);
+            metrics.recordRender(templateName, start, out.getByteCount());
+        } catch (Exception e) {
+            throw TestGenerationException.templateProcessingError(templateName, e);
+        }
+    }
+
+    public void clearTemplateCache() {
+        freemarkerConfig.clearTemplateCache();
+    }
+
+    public boolean contains(String templateName) {
+        return templates.containsKey(templateName);
+    }
+
+    public Set<String> getTemplateNames() {
+        return templates.keySet();
+    }
+
+    public int getTemplateCount() {
+        return templates.size();
+    }
+
+    public long getStartupParseNanos() {
+        return startupParseNanos;
+    }
+
+    public long getStartupParseMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(startupParseNanos);
+    }
+
+    public Map<String, Long> getParseNanosByTemplate() {
+        return parseNanosByTemplate;
+    }
+
+    public Map<String, String> getContentHashes() {
+        if (!checkFreshness) {
+            return contentHashes;
+        }
+        Map<String, String> hashes = new TreeMap<>();
+        for (String templateName : discoverTemplates()) {
+            hashes.put(templateName, hashSource(templateName));
+        }
+        return Collections.unmodifiableMap(hashes);
+    }
+
+    public String getCombinedContentHash(Predicate<String> templateFilter) {
+        String[] parts = getContentHashes().entrySet().stream()
+                .filter(entry -> templateFilter.test(entry.getKey()))
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return MetaModelHasher.hash(parts);
+    }
+
+    public GenerationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public boolean isCheckFreshness() {
+        return checkFreshness;
+    }
+
+    private Template loadTemplate(String templateName) {
+        try {
+            return freemarkerConfig.getTemplate(templateName);
+        } catch (TemplateNotFoundException e) {
+            throw TestGenerationException.templateNotFound(templateName);
+        } catch (IOException e) {
+            throw TestGenerationException.templateProcessingError(templateName, e);
+        }
+    }
+
+    private String hashSource(String templateName) {
+        TemplateLoader loader = freemarkerConfig.getTemplateLoader();
+        try {
+            Object source = loader.findTemplateSource(templateName);
+            if (source == null) {
+                throw TestGenerationException.templateNotFound(templateName);
+            }
+            try (Reader reader = loader.getReader(source, StandardCharsets.UTF_8.name())) {
+                StringWriter content = new StringWriter();
+                reader.transferTo(content);
+                return MetaModelHasher.hash(content.toString().getBytes(StandardCharsets.UTF_8));
+            } finally {
+                loader.closeTemplateSource(source);
+            }
+        } catch (IOException e) {
+            throw new TestGenerationException("Unable to read template " + templateName, e);
+        }
+    }
+
+    private Set<String> discoverTemplates() {
+        Set<String> discovered = new TreeSet<>();
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver(TemplateRegistry.class.getClassLoader())
+                    .getResources(TEMPLATE_PATTERN);
+            for (Resource resource : resources) {
+                String location = resource.getURL().toString();
+                int markerIndex = location.lastIndexOf(TEMPLATE_DIRECTORY_MARKER);
+                if (markerIndex >= 0) {
+                    discovered.add(location.substring(markerIndex + TEMPLATE_DIRECTORY_MARKER.length()));
+                }
+            }
+        } catch (IOException e) {
+            throw new TestGenerationException("Unable to scan templates under " + TEMPLATE_PATTERN, e);
+        }
+
+        for (File baseDirectory : fileSystemRoots(freemarkerConfig.getTemplateLoader())) {
+            Path root = baseDirectory.toPath();
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.filter(path -> path.toString().endsWith(TEMPLATE_EXTENSION) && Files.isRegularFile(path))
+                        .forEach(path -> discovered.add(root.relativize(path).toString().replace(File.separatorChar, '/')));
+            } catch (IOException e) {
+                throw new TestGenerationException("Unable to scan templates under " + root, e);
+            }
+        }
+        return discovered;
+    }
+
+    private static List<File> fileSystemRoots(TemplateLoader loader) {
+        if (loader instanceof FileTemplateLoader fileLoader) {
+            return List.of(fileLoader.getBaseDirectory());
+        }
+        List<File> roots = new ArrayList<>();
+        if (loader instanceof MultiTemplateLoader multiLoader) {
+            for (int i = 0; i < multiLoader.getTemplateLoaderCount(); i++) {
+                roots.addAll(fileSystemRoots(multiLoader.getTemplateLoader(i)));
+            }
+        }
+        return roots;
+    }
+}
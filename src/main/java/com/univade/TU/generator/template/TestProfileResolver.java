@@ -0,0 +1,114 @@
+package com.univade.TU.generator.template;
+
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.GenerationOptions;
+import com.univade.TU.generator.model.SuiteSelection;
+import com.univade.TU.generator.model.TestProfile;
+import com.univade.TU.generator.model.TestSuite;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class TestProfileResolver {
+
+    private final TestProfile defaultProfile;
+    private final Map<String, TestProfile> entityProfiles;
+    private final Set<TestSuite> excludedSuites;
+
+    public TestProfileResolver() {
+        this(TestProfile.FULL, Map.of(), EnumSet.noneOf(TestSuite.class));
+    }
+
+    public TestProfileResolver(TestProfile defaultProfile, Map<String, TestProfile> entityProfiles,
+                               Set<TestSuite> excludedSuites) {
+        this.defaultProfile = defaultProfile;
+        this.entityProfiles = Map.copyOf(entityProfiles);
+        this.excludedSuites = excludedSuites.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(excludedSuites));
+    }
+
+    @Autowired
+    public TestProfileResolver(@Value("${generator.profile.default:full}") String defaultProfile,
+                               @Value("${generator.profile.entities:}") String entityProfiles,
+                               @Value("${generator.suites.exclude:}") String excludedSuites) {
+        this(TestProfile.from(defaultProfile), parseEntityProfiles(entityProfiles), parseSuites(excludedSuites));
+    }
+
+    public SuiteSelection resolve(EntityMetaModel entity) {
+        return SuiteSelection.of(getProfile(entity).getSuites(), excludedSuites);
+    }
+
+    public SuiteSelection resolve(EntityMetaModel entity, GenerationOptions options) {
+        Set<TestSuite> included;
+        if (options.getIncludedSuites() != null && !options.getIncludedSuites().isEmpty()) {
+            included = options.getIncludedSuites();
+        } else if (options.getProfile() != null) {
+            included = options.getProfile().getSuites();
+        } else {
+            included = getProfile(entity).getSuites();
+        }
+
+        Set<TestSuite> excluded = EnumSet.noneOf(TestSuite.class);
+        excluded.addAll(excludedSuites);
+        if (options.getExcludedSuites() != null) {
+            excluded.addAll(options.getExcludedSuites());
+        }
+        return SuiteSelection.of(included, excluded);
+    }
+
+    public TestProfile getProfile(EntityMetaModel entity) {
+        return entityProfiles.getOrDefault(entity.getName(), defaultProfile);
+    }
+
+    public TestProfile getDefaultProfile() {
+        return defaultProfile;
+    }
+
+    public Map<String, TestProfile> getEntityProfiles() {
+        return entityProfiles;
+    }
+
+    public Set<TestSuite> getExcludedSuites() {
+        return excludedSuites;
+    }
+
+    private static Map<String, TestProfile> parseEntityProfiles(String value) {
+        Map<String, TestProfile> profiles = new HashMap<>();
+        for (String entry : split(value)) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected <Entity>=<profile> in generator.profile.entities but got '" + entry + "'");
+            }
+            profiles.put(entry.substring(0, separator).trim(), TestProfile.from(entry.substring(separator + 1)));
+        }
+        return profiles;
+    }
+
+    private static Set<TestSuite> parseSuites(String value) {
+        Set<TestSuite> suites = EnumSet.noneOf(TestSuite.class);
+        for (String entry : split(value)) {
+            suites.add(TestSuite.valueOf(entry.toUpperCase(Locale.ROOT).replace('-', '_')));
+        }
+        return suites;
+    }
+
+    private static String[] split(String value) {
+        if (value == null || value.isBlank()) {
+            return new String[0];
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .toArray(String[]::new);
+    }
+}
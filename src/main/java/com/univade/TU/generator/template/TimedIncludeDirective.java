@@ -0,0 +1,57 @@
+package com.univade.TU.generator.template;
+
+import com.univade.TU.generator.metrics.CountingWriter;
+import com.univade.TU.generator.metrics.GenerationMetrics;
+import freemarker.core.Environment;
+import freemarker.template.TemplateDirectiveBody;
+import freemarker.template.TemplateDirectiveModel;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateScalarModel;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class TimedIncludeDirective implements TemplateDirectiveModel {
+
+    public static final String NAME = "timed";
+
+    private static final String NAME_PARAMETER = "name";
+
+    private final GenerationMetrics metrics;
+
+    public TimedIncludeDirective(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void execute(Environment env, Map params, TemplateModel[] loopVars, TemplateDirectiveBody body)
+            throws TemplateException, IOException {
+        if (body == null) {
+            return;
+        }
+        if (!metrics.isEnabled()) {
+            body.render(env.getOut());
+            return;
+        }
+
+        String parentName = env.getCurrentTemplate().getName();
+        String templateName = env.toFullTemplateName(parentName, readName(params));
+
+        CountingWriter out = new CountingWriter(env.getOut());
+        long start = metrics.start();
+        body.render(out);
+        metrics.recordInclude(templateName, env.getMainTemplate().getName(), start, out.getByteCount());
+    }
+
+    @SuppressWarnings("rawtypes")
+    private String readName(Map params) throws TemplateModelException {
+        Object value = params.get(NAME_PARAMETER);
+        if (!(value instanceof TemplateScalarModel scalar)) {
+            throw new TemplateModelException("@" + NAME + " requires a string \"" + NAME_PARAMETER + "\" parameter");
+        }
+        return scalar.getAsString();
+    }
+}
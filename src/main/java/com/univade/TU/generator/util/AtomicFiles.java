@@ -0,0 +1,56 @@
+package com.univade.TU.generator.util;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class AtomicFiles {
+
+    private static final int MAX_NAME_ATTEMPTS = 16;
+
+    private AtomicFiles() {
+    }
+
+    public static Path createTempSibling(Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        for (int attempt = 0; ; attempt++) {
+            Path tempFile = directory.resolve("." + target.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+            try {
+                Files.newOutputStream(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE).close();
+            } catch (FileAlreadyExistsException e) {
+                if (attempt + 1 >= MAX_NAME_ATTEMPTS) {
+                    throw e;
+                }
+                continue;
+            }
+            copyPermissions(target, tempFile);
+            return tempFile;
+        }
+    }
+
+    public static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void copyPermissions(Path from, Path to) throws IOException {
+        if (!Files.isRegularFile(from)) {
+            return;
+        }
+        PosixFileAttributeView source = Files.getFileAttributeView(from, PosixFileAttributeView.class);
+        PosixFileAttributeView destination = Files.getFileAttributeView(to, PosixFileAttributeView.class);
+        if (source != null && destination != null) {
+            destination.setPermissions(source.readAttributes().permissions());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.univade.TU.generator.util;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class GeneratorVersion {
+
+    private static final String CLASS_DIRECTORY = "com/univade/TU/generator/";
+    private static final String CLASS_PATTERN = "classpath*:" + CLASS_DIRECTORY + "**/*.class";
+    private static final String UNVERSIONED = "dev";
+
+    private static final String CURRENT = compute();
+
+    private GeneratorVersion() {
+    }
+
+    public static String current() {
+        return CURRENT;
+    }
+
+    private static String compute() {
+        String buildVersion = GeneratorVersion.class.getPackage().getImplementationVersion();
+        String version = buildVersion != null ? buildVersion : UNVERSIONED;
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver(GeneratorVersion.class.getClassLoader())
+                    .getResources(CLASS_PATTERN);
+            Map<String, String> classHashes = new TreeMap<>();
+            for (Resource resource : resources) {
+                String location = resource.getURL().toString();
+                int markerIndex = location.lastIndexOf(CLASS_DIRECTORY);
+                if (markerIndex < 0) {
+                    continue;
+                }
+                try (InputStream inputStream = resource.getInputStream()) {
+                    classHashes.putIfAbsent(location.substring(markerIndex), MetaModelHasher.hash(inputStream.readAllBytes()));
+                }
+            }
+            List<String> parts = new ArrayList<>();
+            parts.add(version);
+            classHashes.forEach((name, hash) -> parts.add(name + "=" + hash));
+            return version + "+" + MetaModelHasher.hash(parts.toArray(String[]::new)).substring(0, 16);
+        } catch (IOException e) {
+            return version;
+        }
+    }
+}
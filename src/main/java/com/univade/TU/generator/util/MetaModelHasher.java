@@ -0,0 +1,179 @@
+package com.univade.TU.generator.util;
+
+import com.univade.TU.generator.model.AttributeMetaModel;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.RelationshipMetaModel;
+import com.univade.TU.generator.model.SecurityRuleMetaModel;
+import com.univade.TU.generator.model.ValidationMetaModel;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class MetaModelHasher {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private MetaModelHasher() {
+    }
+
+    public static String hash(EntityMetaModel entity) {
+        Digest digest = new Digest();
+        writeEntity(digest, entity);
+        return digest.hex();
+    }
+
+    public static String hashSecurityRules(List<EntityMetaModel> entities) {
+        Digest digest = new Digest();
+        digest.write(entities.size());
+        for (EntityMetaModel entity : entities) {
+            digest.write(entity.getName());
+            writeSecurityRules(digest, entity.getSecurityRules());
+        }
+        return digest.hex();
+    }
+
+    public static String hash(String... parts) {
+        Digest digest = new Digest();
+        digest.write(parts.length);
+        for (String part : parts) {
+            digest.write(part);
+        }
+        return digest.hex();
+    }
+
+    public static String hash(byte[] content) {
+        return HexFormat.of().formatHex(newDigest().digest(content));
+    }
+
+    private static void writeEntity(Digest digest, EntityMetaModel entity) {
+        digest.write(entity.getName());
+        digest.write(entity.getPackageName());
+        digest.write(entity.getTableName());
+        digest.write(entity.isAuditable());
+
+        List<AttributeMetaModel> attributes = nullSafe(entity.getAttributes());
+        digest.write(attributes.size());
+        for (AttributeMetaModel attribute : attributes) {
+            digest.write(attribute.getName());
+            digest.write(attribute.getType());
+            digest.write(attribute.isNullable());
+            digest.write(attribute.isUnique());
+            digest.write(attribute.getMaxLength());
+            digest.write(attribute.getMinLength());
+            digest.write(attribute.getValidationPattern());
+            digest.write(attribute.getDefaultValue());
+            digest.write(attribute.getColumnName());
+            digest.write(attribute.isPrimaryKey());
+            digest.write(attribute.isGeneratedValue());
+            digest.write(attribute.getGenerationType());
+            digest.write(attribute.getMinValue());
+            digest.write(attribute.getMaxValue());
+            digest.write(attribute.isEmail());
+            digest.write(attribute.isNotBlank());
+            digest.write(attribute.isLob());
+            digest.write(attribute.isEnumType());
+            digest.write(attribute.getEnumClassName());
+            digest.write(attribute.getEnumValues());
+        }
+
+        List<RelationshipMetaModel> relationships = nullSafe(entity.getRelationships());
+        digest.write(relationships.size());
+        for (RelationshipMetaModel relationship : relationships) {
+            digest.write(relationship.getName());
+            digest.write(relationship.getType());
+            digest.write(relationship.getTargetEntity());
+            digest.write(relationship.getMappedBy());
+            digest.write(relationship.getJoinColumn());
+            digest.write(relationship.getJoinTable());
+            digest.write(relationship.getCascadeType());
+            digest.write(relationship.getFetchType());
+            digest.write(relationship.isOrphanRemoval());
+            digest.write(relationship.isOptional());
+        }
+
+        List<ValidationMetaModel> validations = nullSafe(entity.getValidations());
+        digest.write(validations.size());
+        for (ValidationMetaModel validation : validations) {
+            digest.write(validation.getAttributeName());
+            digest.write(validation.getValidationType());
+            digest.write(validation.getMessage());
+            digest.write(validation.getValue());
+            digest.write(validation.getMin());
+            digest.write(validation.getMax());
+            digest.write(validation.getPattern());
+            digest.write(validation.getGroups() != null ? Arrays.asList(validation.getGroups()) : null);
+        }
+
+        writeSecurityRules(digest, entity.getSecurityRules());
+    }
+
+    private static void writeSecurityRules(Digest digest, List<SecurityRuleMetaModel> securityRules) {
+        List<SecurityRuleMetaModel> rules = nullSafe(securityRules);
+        digest.write(rules.size());
+        for (SecurityRuleMetaModel rule : rules) {
+            digest.write(rule.getPath());
+            Map<String, List<String>> methods = rule.getMethods() != null ? new TreeMap<>(rule.getMethods()) : Map.of();
+            digest.write(methods.size());
+            methods.forEach((method, roles) -> {
+                digest.write(method);
+                digest.write(roles);
+            });
+        }
+    }
+
+    private static <T> List<T> nullSafe(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static final class Digest {
+
+        private final MessageDigest messageDigest = newDigest();
+
+        private void write(Object value) {
+            if (value == null) {
+                messageDigest.update((byte) 0);
+                return;
+            }
+            if (value instanceof List<?> list) {
+                messageDigest.update((byte) 'L');
+                write(list.size());
+                list.forEach(this::write);
+                return;
+            }
+            byte[] bytes = (value.getClass().getSimpleName() + ":" + value).getBytes(StandardCharsets.UTF_8);
+            messageDigest.update((byte) 1);
+            messageDigest.update(intBytes(bytes.length));
+            messageDigest.update(bytes);
+        }
+
+        private void write(int value) {
+            messageDigest.update(intBytes(value));
+        }
+
+        private void write(boolean value) {
+            messageDigest.update((byte) (value ? 1 : 0));
+        }
+
+        private String hex() {
+            return HexFormat.of().formatHex(messageDigest.digest());
+        }
+
+        private static byte[] intBytes(int value) {
+            return new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+        }
+    }
+}
@@ -4,9 +4,13 @@ import com.univade.TU.generator.model.AttributeMetaModel;
 import com.univade.TU.generator.model.EntityMetaModel;
 import com.univade.TU.generator.model.RelationshipMetaModel;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 public class TemplateUtils {
 
+    private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("([a-z])([A-Z])");
+
     public String capitalize(String str) {
         if (str == null || str.isEmpty()) {
             return str;
@@ -25,7 +29,7 @@ public class TemplateUtils {
         if (str == null || str.isEmpty()) {
             return str;
         }
-        return str.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
+        return CAMEL_CASE_BOUNDARY.matcher(str).replaceAll("$1_$2").toLowerCase(Locale.ROOT);
     }
 
     public String snakeToCamel(String str) {
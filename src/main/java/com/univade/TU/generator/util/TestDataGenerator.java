@@ -2,22 +2,69 @@ package com.univade.TU.generator.util;
 
 import com.univade.TU.generator.model.AttributeMetaModel;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class TestDataGenerator {
 
-    private final Random random = new Random();
+    public static final String DEFAULT_VARIANT = "value";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Long seed;
+    private final String entityName;
+
+    public TestDataGenerator() {
+        this(null, null);
+    }
+
+    public TestDataGenerator(Long seed) {
+        this(seed, null);
+    }
+
+    private TestDataGenerator(Long seed, String entityName) {
+        this.seed = seed;
+        this.entityName = entityName;
+    }
+
+    public static TestDataGenerator fromSeed(String seed) {
+        return seed == null || seed.isBlank() ? new TestDataGenerator() : new TestDataGenerator(Long.parseLong(seed.trim()));
+    }
+
+    public TestDataGenerator forEntity(String entityName) {
+        return new TestDataGenerator(seed, entityName);
+    }
+
+    public boolean isSeeded() {
+        return seed != null;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
 
     public String generateValidValue(AttributeMetaModel attribute) {
+        return generateValidValue(attribute, DEFAULT_VARIANT);
+    }
+
+    public String generateValidValue(AttributeMetaModel attribute, String variant) {
         String javaType = attribute.getJavaType();
+        RandomGenerator random = random(attribute, variant);
 
         switch (javaType) {
             case "String":
-                return generateStringValue(attribute);
+                return generateStringValue(attribute, random);
             case "Integer":
-                return String.valueOf(generateInteger(attribute));
+                return String.valueOf(generateInteger(attribute, random));
             case "Long":
-                return generateLongValue(attribute);
+                return generateLongValue(attribute, random);
             case "Double":
                 return String.valueOf(1.0 + random.nextDouble() * 100);
             case "Float":
@@ -25,7 +72,7 @@ public class TestDataGenerator {
             case "Boolean":
                 return "true";
             case "BigDecimal":
-                return "new BigDecimal(\"" + String.format("%.2f", random.nextDouble() * 100) + "\")";
+                return "new BigDecimal(\"" + String.format(Locale.ROOT, "%.2f", random.nextDouble() * 100) + "\")";
             case "LocalDate":
                 return "LocalDate.now()";
             case "LocalDateTime":
@@ -63,7 +110,7 @@ public class TestDataGenerator {
         }
     }
 
-    private String generateStringValue(AttributeMetaModel attribute) {
+    private String generateStringValue(AttributeMetaModel attribute, RandomGenerator random) {
         if (attribute.isEmail()) {
             return "generateUniqueEmail()";
         }
@@ -95,7 +142,7 @@ public class TestDataGenerator {
         return "\"invalid\"";
     }
 
-    private int generateInteger(AttributeMetaModel attribute) {
+    private int generateInteger(AttributeMetaModel attribute, RandomGenerator random) {
         int min = attribute.getMinValue() != null ? attribute.getMinValue() : 1;
         int max = attribute.getMaxValue() != null ? attribute.getMaxValue() : 100;
         return min + random.nextInt(max - min + 1);
@@ -112,14 +159,18 @@ public class TestDataGenerator {
         return -1L;
     }
 
-    private String generateLongValue(AttributeMetaModel attribute) {
+    private String generateLongValue(AttributeMetaModel attribute, RandomGenerator random) {
         long min = attribute.getMinValue() != null ? attribute.getMinValue() : 1L;
         long max = attribute.getMaxValue() != null ? attribute.getMaxValue() : 1000L;
         return String.valueOf(min + (long) (random.nextDouble() * (max - min + 1))) + "L";
     }
 
     public String generateUniqueValue(AttributeMetaModel attribute) {
-        String base = generateValidValue(attribute);
+        return generateUniqueValue(attribute, DEFAULT_VARIANT);
+    }
+
+    public String generateUniqueValue(AttributeMetaModel attribute, String variant) {
+        String base = generateValidValue(attribute, variant);
         if (isStringType(attribute)) {
             if (attribute.isEmail()) {
                 return "generateUniqueEmail()";
@@ -205,6 +256,33 @@ public class TestDataGenerator {
         return cases;
     }
 
+    private RandomGenerator random(AttributeMetaModel attribute, String variant) {
+        if (seed == null) {
+            return ThreadLocalRandom.current();
+        }
+        long key = FNV_OFFSET_BASIS;
+        key = fnv(key, entityName);
+        key = fnv(key, attribute.getName());
+        key = fnv(key, variant);
+        return new SplittableRandom(mix(seed ^ key));
+    }
+
+    private static long fnv(long hash, String value) {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= 0xff;
+        return hash * FNV_PRIME;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
     private boolean isStringType(AttributeMetaModel attribute) {
         return "String".equals(attribute.getJavaType());
     }
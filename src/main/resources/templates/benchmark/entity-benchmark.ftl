@@ -0,0 +1,191 @@
+package ${benchmarkPackage};
+
+import ${basePackage}.testdata.${entity.builderClassName};
+<#list requiredTargets as target>
+import ${basePackage}.testdata.${target}TestDataBuilder;
+</#list>
+import ${entity.packageName}.${entity.name};
+<#list requiredTargets as target>
+import ${entity.packageName}.${target};
+</#list>
+import ${basePackage}.repository.${entity.repositoryName};
+<#list requiredTargets as target>
+import ${basePackage}.repository.${target}Repository;
+</#list>
+import ${basePackage}.service.${entity.serviceName};
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ${entity.name}Benchmark {
+
+    private static final int DATASET_SIZE = ${datasetSize?c};
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+    private ConfigurableApplicationContext context;
+    private ${entity.repositoryName} repository;
+    private ${entity.serviceName} service;
+<#list requiredTargets as target>
+    private ${target}Repository ${target?uncap_first}Repository;
+</#list>
+<#list entity.requiredRelationships as relationship>
+<#if relationship.manyToOne && relationship.targetEntity != entity.name>
+    private ${relationship.targetEntity} ${relationship.name}Reference;
+</#if>
+</#list>
+    private final AtomicLong sequence = new AtomicLong();
+    private final Queue<${entity.primaryKeyAttribute.javaType}> createdIds = new ConcurrentLinkedQueue<>();
+    private List<${entity.primaryKeyAttribute.javaType}> ids;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:${entity.variableName}-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(${entity.repositoryName}.class);
+        service = context.getBean(${entity.serviceName}.class);
+<#list requiredTargets as target>
+        ${target?uncap_first}Repository = context.getBean(${target}Repository.class);
+</#list>
+<#list entity.requiredRelationships as relationship>
+<#if relationship.manyToOne && relationship.targetEntity != entity.name>
+        ${relationship.name}Reference = ${relationship.targetEntity?uncap_first}Repository.save(${relationship.targetEntity}TestDataBuilder.aDefault${relationship.targetEntity}().build());
+</#if>
+</#list>
+
+        ids = new ArrayList<>(DATASET_SIZE);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            ids.add(repository.save(new${entity.name}()).${entity.primaryKeyAttribute.getterName}());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCreatedRows() {
+        repository.deleteAllById(new ArrayList<>(createdIds));
+        createdIds.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public ${entity.name} repositorySave() {
+        return created(repository.save(new${entity.name}()));
+    }
+
+    @Benchmark
+    public Object repositoryFindById() {
+        return repository.findById(nextId());
+    }
+
+    @Benchmark
+    public Object repositoryFindAllPaged() {
+        return repository.findAll(FIRST_PAGE);
+    }
+<#list finderMethods as finder>
+
+    @Benchmark
+    public Object ${finder.benchmarkName}() {
+        return repository.${finder.name}(${finder.argumentList});
+    }
+</#list>
+
+    @Benchmark
+    public ${entity.name} serviceCreate() {
+        return created(service.create${entity.name}(new${entity.name}()));
+    }
+
+    @Benchmark
+    public ${entity.name} serviceGetById() {
+        return service.get${entity.name}ById(nextId());
+    }
+
+    @Benchmark
+    public Object serviceGetAllPaged() {
+        return service.getAll${entity.name}s(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public ${entity.name} serviceUpdate() {
+        return service.update${entity.name}(nextId(), new${entity.name}());
+    }
+
+    @Benchmark
+    public void serviceCreateAndDelete() {
+        service.delete${entity.name}(service.create${entity.name}(new${entity.name}()).${entity.primaryKeyAttribute.getterName}());
+    }
+
+    private ${entity.primaryKeyAttribute.javaType} nextId() {
+        cursor = (cursor + 1) % ids.size();
+        return ids.get(cursor);
+    }
+
+    private ${entity.name} created(${entity.name} ${entity.variableName}) {
+        createdIds.add(${entity.variableName}.${entity.primaryKeyAttribute.getterName}());
+        return ${entity.variableName};
+    }
+
+    private ${entity.name} new${entity.name}() {
+        ${entity.name} ${entity.variableName} = ${entity.builderClassName}.aValid${entity.name}().build();
+<#list uniqueValues as uniqueValue>
+        ${entity.variableName}.${uniqueValue.setterName}(${uniqueValue.expression});
+</#list>
+<#list entity.requiredRelationships as relationship>
+<#if relationship.manyToOne && relationship.targetEntity != entity.name>
+        ${entity.variableName}.set${relationship.nameCapitalized}(${relationship.name}Reference);
+<#elseif !relationship.collection && relationship.targetEntity != entity.name>
+        ${entity.variableName}.set${relationship.nameCapitalized}(${relationship.targetEntity?uncap_first}Repository.save(${relationship.targetEntity}TestDataBuilder.aDefault${relationship.targetEntity}().build()));
+</#if>
+</#list>
+        return ${entity.variableName};
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = ${entity.name}.class)
+    @EnableJpaRepositories(basePackageClasses = ${entity.repositoryName}.class)
+    @Import(${entity.serviceName}.class)
+    static class BenchmarkConfiguration {
+    }
+}
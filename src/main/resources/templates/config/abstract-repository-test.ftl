@@ -0,0 +1,50 @@
+package ${basePackage}.repository;
+
+<#if parallelSafe>
+import ${basePackage}.testdata.ParallelTestSupport;
+</#if>
+import org.junit.jupiter.api.BeforeEach;
+<#if parallelSafe>
+import org.junit.jupiter.api.parallel.ResourceLock;
+</#if>
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("${quietProfile}")
+<#if parallelSafe>
+@ResourceLock(ParallelTestSupport.DATABASE)
+</#if>
+public abstract class AbstractRepositoryTest {
+
+    @Autowired
+    protected TestEntityManager entityManager;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearPersistenceContext() {
+        entityManager.clear();
+    }
+
+    protected void truncateAllTables() {
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'",
+                String.class);
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            for (String table : tables) {
+                jdbcTemplate.execute("TRUNCATE TABLE " + table);
+            }
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,7 @@
+# Generated: test classes run concurrently, methods inside a class stay on one thread.
+# Classes that share database state serialize through @ResourceLock(ParallelTestSupport.DATABASE).
+junit.jupiter.execution.parallel.enabled=true
+junit.jupiter.execution.parallel.mode.default=same_thread
+junit.jupiter.execution.parallel.mode.classes.default=concurrent
+junit.jupiter.execution.parallel.config.strategy=dynamic
+junit.jupiter.execution.parallel.config.dynamic.factor=1
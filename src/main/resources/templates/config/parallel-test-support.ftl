@@ -0,0 +1,17 @@
+package ${basePackage}.testdata;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ParallelTestSupport {
+
+    public static final String DATABASE = "${basePackage}.database";
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private ParallelTestSupport() {
+    }
+
+    public static long uniqueNumber() {
+        return SEQUENCE.incrementAndGet();
+    }
+}
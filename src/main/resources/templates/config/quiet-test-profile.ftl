@@ -0,0 +1,11 @@
+# Generated test profile: one schema per cached context, no SQL echo, no bind-parameter tracing
+spring.main.banner-mode=off
+spring.jpa.hibernate.ddl-auto=create
+spring.jpa.show-sql=false
+spring.jpa.properties.hibernate.format_sql=false
+spring.jpa.open-in-view=false
+logging.level.root=WARN
+logging.level.org.hibernate.SQL=WARN
+logging.level.org.hibernate.type.descriptor.sql=WARN
+logging.level.org.hibernate.orm.jdbc.bind=WARN
+logging.level.org.springframework.test.context=WARN
@@ -0,0 +1,38 @@
+<#include "controller-test-imports.ftl">
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+
+@Tag("integration")
+@WebMvcTest(${entity.controllerName}.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(${basePackage}.config.TestSecurityConfig.class)
+<#if !hasSecurityRules>
+@WithMockUser
+</#if>
+@DisplayName("${entity.name} Controller Integration Tests")
+class ${entity.name}ControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ${entity.serviceName} ${entity.variableName}Service;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        reset(${entity.variableName}Service);
+    }
+
+<#include "controller-test-helpers.ftl">
+
+    <#if suites.enabled("CONTROLLER_SWAGGER")><@timed name="controller-swagger-tests.ftl"><#include "controller-swagger-tests.ftl"></@timed></#if>
+
+    <#if suites.enabled("CONTROLLER_SECURITY")><@timed name="controller-security-tests.ftl"><#include "controller-security-tests.ftl"></@timed></#if>
+
+}
@@ -0,0 +1,79 @@
+<#assign hasStrictValidation = false>
+<#list validationRules as rule>
+<#if rule.isNotNull() || rule.isNotBlank() || rule.isNotEmpty() || (rule.isSize() && rule.minValue?? && rule.minValue?number > 0)>
+<#assign hasStrictValidation = true>
+<#break>
+</#if>
+</#list>
+
+    private ${entity.name} create${entity.name}() {
+<#if entity.hasRelationships()>
+        ${entity.name}TestDataBuilder builder = ${entity.name}TestDataBuilder.aValid${entity.name}();
+<#list entity.relationships as relationship>
+<#if relationship.type == "ManyToOne" || relationship.type == "OneToOne">
+        builder = builder.with${relationship.nameCapitalized}(create${relationship.targetEntity}());
+</#if>
+</#list>
+        return builder.build();
+<#else>
+        return ${entity.builderClassName}.aValid${entity.name}().build();
+</#if>
+    }
+
+    private ${entity.dtoClassName} create${entity.dtoClassName}() {
+        ${entity.name} entity = create${entity.name}();
+<#if entity.hasRelationships()>
+<#list entity.relationships as relationship>
+<#if relationship.type == "ManyToOne" || relationship.type == "OneToOne">
+        if (entity.${relationship.getterName}() != null && entity.${relationship.getterName}().getId() == null) {
+            entity.${relationship.getterName}().setId(1L);
+        }
+</#if>
+</#list>
+</#if>
+        return ${entity.dtoClassName}.builder()
+<#list entity.attributes as attr>
+<#if !attr.primaryKey || !attr.generatedValue>
+                .${attr.name}(entity.${attr.getterName}())
+</#if>
+</#list>
+<#if entity.hasRelationships()>
+<#list entity.relationships as relationship>
+<#if relationship.type == "ManyToOne" || relationship.type == "OneToOne">
+                .${relationship.name}Id(entity.${relationship.getterName}() != null ? entity.${relationship.getterName}().getId() : 1L)
+</#if>
+</#list>
+</#if>
+                .build();
+    }
+
+
+
+    private ${entity.name} createMockEntity() {
+        ${entity.name} mockEntity = create${entity.name}();
+<#if entity.primaryKeyAttribute.javaType == "String">
+        mockEntity.${entity.primaryKeyAttribute.setterName}("CREATED_ID");
+<#else>
+        mockEntity.${entity.primaryKeyAttribute.setterName}(1L);
+</#if>
+<#-- Ensure related entities have IDs for proper DTO conversion -->
+<#if entity.hasRelationships()>
+<#list entity.relationships as relationship>
+<#if relationship.type == "ManyToOne" || relationship.type == "OneToOne">
+        if (mockEntity.${relationship.getterName}() != null && mockEntity.${relationship.getterName}().getId() == null) {
+            mockEntity.${relationship.getterName}().setId(1L);
+        }
+</#if>
+</#list>
+</#if>
+        return mockEntity;
+    }
+
+<#if entity.hasRelationships()>
+<#list entity.relationships as relationship>
+    private ${relationship.targetEntity} create${relationship.targetEntity}() {
+        return ${relationship.targetEntity}TestDataBuilder.aDefault${relationship.targetEntity}().build();
+    }
+
+</#list>
+</#if>
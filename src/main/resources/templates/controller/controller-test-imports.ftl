@@ -0,0 +1,71 @@
+package ${basePackage}.controller;
+
+import ${basePackage}.testdata.${entity.builderClassName};
+import ${basePackage}.dto.${entity.dtoClassName};
+
+<#if entity.hasRelationships()>
+<#list entity.relationships as relationship>
+import ${basePackage}.testdata.${relationship.targetEntity}TestDataBuilder;
+import ${basePackage}.dto.${relationship.targetEntity}Dto;
+</#list>
+</#if>
+
+import ${entity.packageName}.${entity.name};
+
+<#if entity.hasRelationships()>
+<#list entity.relationships as relationship>
+import ${entity.packageName}.${relationship.targetEntity};
+</#list>
+</#if>
+
+import ${basePackage}.controller.${entity.controllerName};
+import ${basePackage}.service.${entity.serviceName};
+import ${basePackage}.exception.EntityNotFoundException;
+import ${basePackage}.exception.BadRequestException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.*;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.NotBlank;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import ${basePackage}.generator.model.ControllerValidationRule;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.hamcrest.Matchers.*;
+import static org.assertj.core.api.Assertions.*;
@@ -1,211 +1,63 @@
-package ${basePackage}.controller;
-
-import ${basePackage}.testdata.${entity.builderClassName};
-import ${basePackage}.dto.${entity.dtoClassName};
-
-<#if entity.hasRelationships()>
-<#list entity.relationships as relationship>
-import ${basePackage}.testdata.${relationship.targetEntity}TestDataBuilder;
-import ${basePackage}.dto.${relationship.targetEntity}Dto;
-</#list>
-</#if>
-
-import ${entity.packageName}.${entity.name};
-
-<#if entity.hasRelationships()>
-<#list entity.relationships as relationship>
-import ${entity.packageName}.${relationship.targetEntity};
-</#list>
-</#if>
-
-import ${basePackage}.controller.${entity.controllerName};
-import ${basePackage}.service.${entity.serviceName};
-import ${basePackage}.exception.EntityNotFoundException;
-import ${basePackage}.exception.BadRequestException;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.junit.jupiter.api.*;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
-import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.web.client.TestRestTemplate;
-import org.springframework.context.annotation.Import;
-import org.springframework.http.*;
-import org.springframework.security.test.context.support.WithMockUser;
-import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.test.web.servlet.MvcResult;
-
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import jakarta.validation.constraints.Size;
-import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.Max;
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.Pattern;
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.NotBlank;
-
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.ConstraintViolationException;
-import jakarta.validation.Validator;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-
-import ${basePackage}.generator.model.ControllerValidationRule;
-
-import static org.assertj.core.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.*;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
-import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
-import static org.hamcrest.Matchers.*;
-import static org.assertj.core.api.Assertions.*;
-
-@WebMvcTest(${entity.controllerName}.class)
-@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import(${basePackage}.config.TestSecurityConfig.class)
-<#if !hasSecurityRules>
-@WithMockUser
-</#if>
+<#include "controller-test-imports.ftl">
+import ${basePackage}.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@Tag("fast")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 @DisplayName("${entity.name} Controller Tests")
 class ${entity.controllerTestClassName} {
 
-<#assign hasStrictValidation = false>
-<#list validationRules as rule>
-<#if rule.isNotNull() || rule.isNotBlank() || rule.isNotEmpty() || (rule.isSize() && rule.minValue?? && rule.minValue?number > 0)>
-<#assign hasStrictValidation = true>
-<#break>
-</#if>
-</#list>
+    @Mock
+    private ${entity.serviceName} ${entity.variableName}Service;
 
-    @Autowired
-    private MockMvc mockMvc;
+    @InjectMocks
+    private ${entity.controllerName} ${entity.variableName}Controller;
 
-    @MockBean
-    private ${entity.serviceName} ${entity.variableName}Service;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
 
-    @Autowired
-    private ObjectMapper objectMapper;
+    private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
-        reset(${entity.variableName}Service);
-    }
-
-    private ${entity.name} create${entity.name}() {
-<#if entity.hasRelationships()>
-        ${entity.name}TestDataBuilder builder = ${entity.name}TestDataBuilder.aValid${entity.name}();
-<#list entity.relationships as relationship>
-<#if relationship.type == "ManyToOne" || relationship.type == "OneToOne">
-        builder = builder.with${relationship.nameCapitalized}(create${relationship.targetEntity}());
-</#if>
-</#list>
-        return builder.build();
-<#else>
-        return ${entity.builderClassName}.aValid${entity.name}().build();
-</#if>
-    }
-
-    private ${entity.dtoClassName} create${entity.dtoClassName}() {
-        ${entity.name} entity = create${entity.name}();
-<#if entity.hasRelationships()>
-<#list entity.relationships as relationship>
-<#if relationship.type == "ManyToOne" || relationship.type == "OneToOne">
-        if (entity.${relationship.getterName}() != null && entity.${relationship.getterName}().getId() == null) {
-            entity.${relationship.getterName}().setId(1L);
-        }
-</#if>
-</#list>
-</#if>
-        return ${entity.dtoClassName}.builder()
-<#list entity.attributes as attr>
-<#if !attr.primaryKey || !attr.generatedValue>
-                .${attr.name}(entity.${attr.getterName}())
-</#if>
-</#list>
-<#if entity.hasRelationships()>
-<#list entity.relationships as relationship>
-<#if relationship.type == "ManyToOne" || relationship.type == "OneToOne">
-                .${relationship.name}Id(entity.${relationship.getterName}() != null ? entity.${relationship.getterName}().getId() : 1L)
-</#if>
-</#list>
-</#if>
+        mockMvc = MockMvcBuilders.standaloneSetup(${entity.variableName}Controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
     }
 
+<#include "controller-test-helpers.ftl">
 
-
-    private ${entity.name} createMockEntity() {
-        ${entity.name} mockEntity = create${entity.name}();
-<#if entity.primaryKeyAttribute.javaType == "String">
-        mockEntity.${entity.primaryKeyAttribute.setterName}("CREATED_ID");
-<#else>
-        mockEntity.${entity.primaryKeyAttribute.setterName}(1L);
-</#if>
-<#-- Ensure related entities have IDs for proper DTO conversion -->
-<#if entity.hasRelationships()>
-<#list entity.relationships as relationship>
-<#if relationship.type == "ManyToOne" || relationship.type == "OneToOne">
-        if (mockEntity.${relationship.getterName}() != null && mockEntity.${relationship.getterName}().getId() == null) {
-            mockEntity.${relationship.getterName}().setId(1L);
-        }
-</#if>
-</#list>
-</#if>
-        return mockEntity;
-    }
-
-<#if entity.hasRelationships()>
-<#list entity.relationships as relationship>
-    private ${relationship.targetEntity} create${relationship.targetEntity}() {
-        return ${relationship.targetEntity}TestDataBuilder.aDefault${relationship.targetEntity}().build();
-    }
-
-</#list>
-</#if>
-    <#include "controller-crud-tests.ftl">
+    <#if suites.enabled("CONTROLLER_CRUD")><@timed name="controller-crud-tests.ftl"><#include "controller-crud-tests.ftl"></@timed></#if>
 
     <#if validationRules?has_content>
-        <#include "controller-dynamic-validation-tests.ftl">
+        <#if suites.enabled("CONTROLLER_VALIDATION")><@timed name="controller-dynamic-validation-tests.ftl"><#include "controller-dynamic-validation-tests.ftl"></@timed></#if>
     </#if>
 
-    <#include "controller-exception-tests.ftl">
-
-    <#include "controller-status-code-tests.ftl">
-
-    <#include "controller-edge-case-tests.ftl">
+    <#if suites.enabled("CONTROLLER_EXCEPTION")><@timed name="controller-exception-tests.ftl"><#include "controller-exception-tests.ftl"></@timed></#if>
 
-    <#include "controller-http-method-tests.ftl">
+    <#if suites.enabled("CONTROLLER_STATUS_CODE")><@timed name="controller-status-code-tests.ftl"><#include "controller-status-code-tests.ftl"></@timed></#if>
 
-    <#include "controller-json-structure-tests.ftl">
+    <#if suites.enabled("CONTROLLER_EDGE_CASE")><@timed name="controller-edge-case-tests.ftl"><#include "controller-edge-case-tests.ftl"></@timed></#if>
 
-    <#include "controller-header-param-tests.ftl">
+    <#if suites.enabled("CONTROLLER_HTTP_METHOD")><@timed name="controller-http-method-tests.ftl"><#include "controller-http-method-tests.ftl"></@timed></#if>
 
-    <#include "controller-pagination-tests.ftl">
+    <#if suites.enabled("CONTROLLER_JSON_STRUCTURE")><@timed name="controller-json-structure-tests.ftl"><#include "controller-json-structure-tests.ftl"></@timed></#if>
 
-    <#include "controller-swagger-tests.ftl">
+    <#if suites.enabled("CONTROLLER_HEADER_PARAM")><@timed name="controller-header-param-tests.ftl"><#include "controller-header-param-tests.ftl"></@timed></#if>
 
-    <#include "controller-security-tests.ftl">
+    <#if suites.enabled("CONTROLLER_PAGINATION")><@timed name="controller-pagination-tests.ftl"><#include "controller-pagination-tests.ftl"></@timed></#if>
 
     <#if entity.hasRelationships()>
-        <#include "controller-relationship-tests.ftl">
+        <#if suites.enabled("CONTROLLER_RELATIONSHIP")><@timed name="controller-relationship-tests.ftl"><#include "controller-relationship-tests.ftl"></@timed></#if>
     </#if>
 
 }
@@ -0,0 +1,363 @@
+package ${loadTestPackage};
+
+import ${basePackage}.config.TestSecurityConfig;
+import ${basePackage}.controller.${entity.controllerName};
+import ${basePackage}.dto.${entity.dtoClassName};
+import ${basePackage}.exception.GlobalExceptionHandler;
+import ${basePackage}.repository.${entity.repositoryName};
+<#list requiredTargets as target>
+import ${basePackage}.repository.${target}Repository;
+</#list>
+import ${basePackage}.service.${entity.serviceName};
+import ${basePackage}.testdata.${entity.builderClassName};
+<#list requiredTargets as target>
+import ${basePackage}.testdata.${target}TestDataBuilder;
+</#list>
+import ${entity.packageName}.${entity.name};
+<#list requiredTargets as target>
+import ${entity.packageName}.${target};
+</#list>
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public final class ${entity.name}LoadHarness implements AutoCloseable {
+
+    private enum Endpoint {
+<#list endpoints as endpoint>
+        ${endpoint.constantName}("${endpoint.httpMethod}", "${endpoint.path}", ${endpoint.weight}, ${endpoint.requiresBody?c}, ${endpoint.requiresId?c}, ${endpoint.consumesId?c})<#if endpoint?has_next>,<#else>;</#if>
+</#list>
+
+        private final String httpMethod;
+        private final String path;
+        private final int weight;
+        private final boolean requiresBody;
+        private final boolean requiresId;
+        private final boolean consumesId;
+
+        Endpoint(String httpMethod, String path, int weight, boolean requiresBody, boolean requiresId, boolean consumesId) {
+            this.httpMethod = httpMethod;
+            this.path = path;
+            this.weight = weight;
+            this.requiresBody = requiresBody;
+            this.requiresId = requiresId;
+            this.consumesId = consumesId;
+        }
+    }
+
+    private static final Endpoint[] ENDPOINTS = Endpoint.values();
+
+    private final ConfigurableApplicationContext context;
+    private final ObjectMapper objectMapper;
+    private final ${entity.repositoryName} repository;
+<#list requiredTargets as target>
+    private final ${target}Repository ${target?uncap_first}Repository;
+    private final ${target} shared${target};
+</#list>
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final String baseUrl;
+    private final List<String> seededIds = new ArrayList<>();
+    private final Queue<String> disposableIds = new ConcurrentLinkedQueue<>();
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", Runtime.getRuntime().availableProcessors());
+        int warmupSeconds = Integer.getInteger("load.warmup-seconds", 5);
+        int durationSeconds = Integer.getInteger("load.duration-seconds", 30);
+        long pacingMillis = Long.getLong("load.pacing-millis", 0L);
+        int seedRows = Integer.getInteger("load.seed-rows", 200);
+        Map<String, Integer> mix = parseMix(System.getProperty("load.mix", ""));
+
+        try (${entity.name}LoadHarness harness = new ${entity.name}LoadHarness(seedRows)) {
+            harness.run(concurrency, warmupSeconds, durationSeconds, pacingMillis, mix);
+        }
+    }
+
+    public ${entity.name}LoadHarness(int seedRows) {
+        if (seedRows < 1) {
+            throw new IllegalArgumentException("load.seed-rows must be at least 1");
+        }
+        context = new SpringApplicationBuilder(HarnessConfiguration.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "server.address=127.0.0.1",
+                        "spring.datasource.url=jdbc:h2:mem:${entity.variableName}-load;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.open-in-view=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        baseUrl = "http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        objectMapper = context.getBean(ObjectMapper.class);
+        repository = context.getBean(${entity.repositoryName}.class);
+<#list requiredTargets as target>
+        ${target?uncap_first}Repository = context.getBean(${target}Repository.class);
+        shared${target} = ${target?uncap_first}Repository.save(${target}TestDataBuilder.aDefault${target}().build());
+</#list>
+
+        for (int i = 0; i < seedRows; i++) {
+            seededIds.add(String.valueOf(repository.save(new${entity.name}()).${entity.primaryKeyAttribute.getterName}()));
+        }
+    }
+
+    public void run(int concurrency, int warmupSeconds, int durationSeconds, long pacingMillis,
+                    Map<String, Integer> mix) throws InterruptedException {
+        for (String name : mix.keySet()) {
+            Endpoint.valueOf(name);
+        }
+        int[] cumulativeWeights = new int[ENDPOINTS.length];
+        int totalWeight = 0;
+        for (Endpoint endpoint : ENDPOINTS) {
+            totalWeight += Math.max(0, mix.getOrDefault(endpoint.name(), endpoint.weight));
+            cumulativeWeights[endpoint.ordinal()] = totalWeight;
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("load.mix leaves no endpoint with a positive weight");
+        }
+
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Recorder[]>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                Callable<Recorder[]> worker = () -> drive(cumulativeWeights, measureFrom, deadline, pacingMillis);
+                futures.add(workers.submit(worker));
+            }
+
+            Recorder[] totals = Recorder.forEndpoints();
+            for (Future<Recorder[]> future : futures) {
+                Recorder[] recorders = future.get();
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i].merge(recorders[i]);
+                }
+            }
+            report(totals, concurrency, durationSeconds, pacingMillis);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load worker failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Recorder[] drive(int[] cumulativeWeights, long measureFrom, long deadline, long pacingMillis)
+            throws IOException, InterruptedException {
+        Recorder[] recorders = Recorder.forEndpoints();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int totalWeight = cumulativeWeights[cumulativeWeights.length - 1];
+
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = select(cumulativeWeights, random.nextInt(totalWeight));
+            HttpRequest request = prepare(endpoint, random);
+
+            long begin = System.nanoTime();
+            HttpResponse<String> response = send(request);
+            long elapsed = System.nanoTime() - begin;
+
+            boolean ok = response != null && response.statusCode() < 400;
+            if (begin >= measureFrom) {
+                recorders[endpoint.ordinal()].record(elapsed, ok);
+            }
+            if (ok && endpoint == Endpoint.CREATE) {
+                disposableIds.add(objectMapper.readTree(response.body()).path("${entity.primaryKeyAttribute.name}").asText());
+            }
+            if (pacingMillis > 0) {
+                Thread.sleep(pacingMillis);
+            }
+        }
+        return recorders;
+    }
+
+    private static Endpoint select(int[] cumulativeWeights, int pick) {
+        for (Endpoint endpoint : ENDPOINTS) {
+            if (pick < cumulativeWeights[endpoint.ordinal()]) {
+                return endpoint;
+            }
+        }
+        return ENDPOINTS[ENDPOINTS.length - 1];
+    }
+
+    private HttpRequest prepare(Endpoint endpoint, ThreadLocalRandom random) throws IOException {
+        String path = endpoint.path;
+        if (endpoint.requiresId) {
+            path = path.replace("{id}", seededIds.get(random.nextInt(seededIds.size())));
+        } else if (endpoint.consumesId) {
+            path = path.replace("{id}", disposableId());
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (endpoint.requiresBody) {
+            builder.header("Content-Type", "application/json")
+                    .method(endpoint.httpMethod, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(new${entity.dtoClassName}())));
+        } else {
+            builder.method(endpoint.httpMethod, HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private String disposableId() {
+        String id = disposableIds.poll();
+        return id != null ? id : String.valueOf(repository.save(new${entity.name}()).${entity.primaryKeyAttribute.getterName}());
+    }
+
+    private ${entity.name} new${entity.name}() {
+        ${entity.name} ${entity.variableName} = ${entity.builderClassName}.aValid${entity.name}().build();
+<#list entity.relationships as relationship>
+<#if relationship.type == "ManyToOne" && relationship.targetEntity != entity.name>
+        ${entity.variableName}.set${relationship.nameCapitalized}(shared${relationship.targetEntity});
+<#elseif relationship.type == "OneToOne" && relationship.targetEntity != entity.name>
+        ${entity.variableName}.set${relationship.nameCapitalized}(${relationship.targetEntity?uncap_first}Repository.save(${relationship.targetEntity}TestDataBuilder.aDefault${relationship.targetEntity}().build()));
+</#if>
+</#list>
+        return ${entity.variableName};
+    }
+
+    private ${entity.dtoClassName} new${entity.dtoClassName}() {
+        ${entity.name} entity = new${entity.name}();
+        return ${entity.dtoClassName}.builder()
+<#list entity.attributes as attr>
+<#if !attr.primaryKey || !attr.generatedValue>
+                .${attr.name}(entity.${attr.getterName}())
+</#if>
+</#list>
+<#list entity.relationships as relationship>
+<#if (relationship.type == "ManyToOne" || relationship.type == "OneToOne") && relationship.targetEntity != entity.name>
+                .${relationship.name}Id(entity.${relationship.getterName}().getId())
+</#if>
+</#list>
+                .build();
+    }
+
+    private void report(Recorder[] recorders, int concurrency, int durationSeconds, long pacingMillis) {
+        System.out.printf("${entity.name} load harness: %d workers, %d s measured, %d ms pacing%n",
+                concurrency, durationSeconds, pacingMillis);
+        System.out.printf("%-10s %9s %7s %9s %9s %10s%n", "endpoint", "requests", "errors", "p50 ms", "p99 ms", "req/s");
+        Recorder total = new Recorder();
+        for (Endpoint endpoint : ENDPOINTS) {
+            Recorder recorder = recorders[endpoint.ordinal()];
+            total.merge(recorder);
+            print(endpoint.name().toLowerCase(Locale.ROOT), recorder, durationSeconds);
+        }
+        print("total", total, durationSeconds);
+    }
+
+    private static void print(String label, Recorder recorder, int durationSeconds) {
+        System.out.printf("%-10s %9d %7d %9.2f %9.2f %10.1f%n", label, recorder.size, recorder.errors,
+                recorder.percentileMillis(0.50), recorder.percentileMillis(0.99),
+                durationSeconds > 0 ? (double) recorder.size / durationSeconds : 0.0);
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new HashMap<>();
+        if (mix.isBlank()) {
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry '" + entry + "', expected endpoint=weight");
+            }
+            weights.put(parts[0].trim().toUpperCase(Locale.ROOT), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static final class Recorder {
+
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        static Recorder[] forEndpoints() {
+            Recorder[] recorders = new Recorder[ENDPOINTS.length];
+            for (int i = 0; i < recorders.length; i++) {
+                recorders[i] = new Recorder();
+            }
+            return recorders;
+        }
+
+        void record(long nanos, boolean ok) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void merge(Recorder other) {
+            if (size + other.size > samples.length) {
+                samples = Arrays.copyOf(samples, Math.max(samples.length * 2, size + other.size));
+            }
+            System.arraycopy(other.samples, 0, samples, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        double percentileMillis(double percentile) {
+            if (size == 0) {
+                return 0.0;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = Math.min(size - 1, Math.max(0, (int) Math.ceil(percentile * size) - 1));
+            return sorted[index] / 1_000_000.0;
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = ${entity.name}.class)
+    @EnableJpaRepositories(basePackageClasses = ${entity.repositoryName}.class)
+    @Import({${entity.controllerName}.class, ${entity.serviceName}.class, GlobalExceptionHandler.class, TestSecurityConfig.class})
+    static class HarnessConfiguration {
+    }
+}
@@ -31,23 +31,12 @@ import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
 
-@DataJpaTest
 @DisplayName("${entity.name} Repository Tests")
-class ${entity.testClassName} {
+class ${entity.testClassName} extends AbstractRepositoryTest {
 
     @Autowired
     private ${entity.repositoryName} ${entity.variableName}Repository;
 
-    @Autowired
-    private TestEntityManager entityManager;
-
-    @BeforeEach
-    void setUp() {
-        ${entity.variableName}Repository.deleteAll();
-        entityManager.flush();
-        entityManager.clear();
-    }
-
     private ${entity.name} create${entity.name}() {
         ${entity.name} ${entity.variableName} = ${entity.builderClassName}.aValid${entity.name}().build();
 <#if entity.hasRelationships()>
@@ -73,16 +62,16 @@ class ${entity.testClassName} {
 
 </#list>
 </#if>
-    <#include "crud-tests.ftl">
+    <#if suites.enabled("REPOSITORY_CRUD")><@timed name="crud-tests.ftl"><#include "crud-tests.ftl"></@timed></#if>
 
     <#if entity.hasValidations() || (!entity.primaryKeyAttribute.generatedValue)>
-        <#include "validation-tests.ftl">
+        <#if suites.enabled("REPOSITORY_VALIDATION")><@timed name="validation-tests.ftl"><#include "validation-tests.ftl"></@timed></#if>
     </#if>
 
     <#if entity.hasRelationships()>
-        <#include "relationship-tests.ftl">
+        <#if suites.enabled("REPOSITORY_RELATIONSHIP")><@timed name="relationship-tests.ftl"><#include "relationship-tests.ftl"></@timed></#if>
     </#if>
 
-    <#include "pagination-tests.ftl">
+    <#if suites.enabled("REPOSITORY_PAGINATION")><@timed name="pagination-tests.ftl"><#include "pagination-tests.ftl"></@timed></#if>
 
 }
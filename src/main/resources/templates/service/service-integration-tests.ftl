@@ -1,6 +1,10 @@
+<#assign uniqueNumber = parallelSafe?then(basePackage + ".testdata.ParallelTestSupport.uniqueNumber()", "System.currentTimeMillis()")>
     @Nested
     @SpringBootTest
     @Transactional
+<#if parallelSafe>
+    @org.junit.jupiter.api.parallel.ResourceLock(${basePackage}.testdata.ParallelTestSupport.DATABASE)
+</#if>
     @DisplayName("Integration Tests")
     class IntegrationTests {
 
@@ -153,15 +157,15 @@
             void shouldFailWhenDuplicate${attr.name?cap_first}IsSaved() {
                 ${entity.name} firstEntity = ${entity.name}TestDataBuilder.aDefault${entity.name}()
 <#if attr.email?? && attr.email == true>
-                        .with${attr.name?cap_first}("test" + System.currentTimeMillis() + "@example.com")
+                        .with${attr.name?cap_first}("test" + ${uniqueNumber} + "@example.com")
 <#elseif attr.name == "cin">
-                        .with${attr.name?cap_first}("TEST" + String.format("%06d", (System.currentTimeMillis() % 1000000)))
+                        .with${attr.name?cap_first}("TEST" + String.format("%06d", (${uniqueNumber} % 1000000)))
 <#elseif attr.name == "phoneNumber" || (attr.minLength?? && attr.minLength >= 10)>
-                        .with${attr.name?cap_first}("0600" + String.format("%06d", (System.currentTimeMillis() % 1000000)))
+                        .with${attr.name?cap_first}("0600" + String.format("%06d", (${uniqueNumber} % 1000000)))
 <#elseif attr.type == "String" && attr.maxLength?? && (attr.maxLength < 20)>
-                        .with${attr.name?cap_first}("test" + (System.currentTimeMillis() % 1000))
+                        .with${attr.name?cap_first}("test" + (${uniqueNumber} % 1000))
 <#elseif attr.type == "String">
-                        .with${attr.name?cap_first}("unique" + System.currentTimeMillis())
+                        .with${attr.name?cap_first}("unique" + ${uniqueNumber})
 </#if>
                         .build();
                 ${entity.name} first = ${entity.variableName}ServiceIntegration.create${entity.name}(firstEntity);
@@ -173,15 +177,15 @@
 <#list entity.attributes as uniqueAttr>
 <#if uniqueAttr.unique && uniqueAttr.name != attr.name>
 <#if uniqueAttr.email?? && uniqueAttr.email == true>
-                duplicate.set${uniqueAttr.name?cap_first}("different" + System.currentTimeMillis() + "@test.com");
+                duplicate.set${uniqueAttr.name?cap_first}("different" + ${uniqueNumber} + "@test.com");
 <#elseif uniqueAttr.name == "cin">
-                duplicate.set${uniqueAttr.name?cap_first}("DUP" + String.format("%07d", (System.currentTimeMillis() % 10000000)));
+                duplicate.set${uniqueAttr.name?cap_first}("DUP" + String.format("%07d", (${uniqueNumber} % 10000000)));
 <#elseif uniqueAttr.name == "phoneNumber" || (uniqueAttr.minLength?? && uniqueAttr.minLength >= 10)>
-                duplicate.set${uniqueAttr.name?cap_first}("0600" + String.format("%06d", (System.currentTimeMillis() % 1000000)));
+                duplicate.set${uniqueAttr.name?cap_first}("0600" + String.format("%06d", (${uniqueNumber} % 1000000)));
 <#elseif uniqueAttr.type == "String" && uniqueAttr.maxLength?? && (uniqueAttr.maxLength < 20)>
-                duplicate.set${uniqueAttr.name?cap_first}("dup" + (System.currentTimeMillis() % 1000));
+                duplicate.set${uniqueAttr.name?cap_first}("dup" + (${uniqueNumber} % 1000));
 <#elseif uniqueAttr.type == "String">
-                duplicate.set${uniqueAttr.name?cap_first}("different" + (System.currentTimeMillis() % 10000));
+                duplicate.set${uniqueAttr.name?cap_first}("different" + (${uniqueNumber} % 10000));
 </#if>
 </#if>
 </#list>
@@ -76,18 +76,18 @@ class ${entity.serviceTestClassName} {
 
 </#list>
 </#if>
-    <#include "service-crud-tests.ftl">
+    <#if suites.enabled("SERVICE_CRUD")><@timed name="service-crud-tests.ftl"><#include "service-crud-tests.ftl"></@timed></#if>
 
-    <#include "service-business-logic-tests.ftl">
+    <#if suites.enabled("SERVICE_BUSINESS_LOGIC")><@timed name="service-business-logic-tests.ftl"><#include "service-business-logic-tests.ftl"></@timed></#if>
 
-    <#include "service-pagination-tests.ftl">
+    <#if suites.enabled("SERVICE_PAGINATION")><@timed name="service-pagination-tests.ftl"><#include "service-pagination-tests.ftl"></@timed></#if>
 
-    <#include "service-validation-tests.ftl">
+    <#if suites.enabled("SERVICE_VALIDATION")><@timed name="service-validation-tests.ftl"><#include "service-validation-tests.ftl"></@timed></#if>
 
     <#if entity.hasRelationships()>
-        <#include "service-relationship-tests.ftl">
+        <#if suites.enabled("SERVICE_RELATIONSHIP")><@timed name="service-relationship-tests.ftl"><#include "service-relationship-tests.ftl"></@timed></#if>
     </#if>
 
-    <#include "service-integration-tests.ftl">
+    <#if suites.enabled("SERVICE_INTEGRATION")><@timed name="service-integration-tests.ftl"><#include "service-integration-tests.ftl"></@timed></#if>
 
 }
@@ -14,11 +14,11 @@ public class ${entity.builderClassName} {
 
 <#list entity.attributes as attribute>
 <#if attribute.primaryKey && !attribute.generatedValue>
-    private ${attribute.javaType} ${attribute.name} = ${generator.generateUniqueValue(attribute)};
+    private ${attribute.javaType} ${attribute.name} = ${generator.generateUniqueValue(attribute, "field")};
 <#elseif !attribute.primaryKey && attribute.unique>
-    private ${attribute.javaType} ${attribute.name} = ${generator.generateUniqueValue(attribute)};
+    private ${attribute.javaType} ${attribute.name} = ${generator.generateUniqueValue(attribute, "field")};
 <#elseif !attribute.primaryKey>
-    private ${attribute.javaType} ${attribute.name} = ${generator.generateValidValue(attribute)};
+    private ${attribute.javaType} ${attribute.name} = ${generator.generateValidValue(attribute, "field")};
 </#if>
 </#list>
 <#list entity.relationships as relationship>
@@ -34,10 +34,17 @@ public class ${entity.builderClassName} {
     private static String generateUniqueEmail() {
         String[] names = {"oussama", "hicham", "ilyass", "mohammed", "youssef", "hassan"};
         String[] domains = {"example.com", "test.com", "demo.org"};
+<#if parallelSafe>
+        java.util.concurrent.ThreadLocalRandom random = java.util.concurrent.ThreadLocalRandom.current();
+        String name = names[random.nextInt(names.length)];
+        String domain = domains[random.nextInt(domains.length)];
+        return name + ${basePackage}.testdata.ParallelTestSupport.uniqueNumber() + "@" + domain;
+<#else>
         java.util.Random random = new java.util.Random();
         String name = names[random.nextInt(names.length)];
         String domain = domains[random.nextInt(domains.length)];
         return name + System.currentTimeMillis() + random.nextInt(1000) + "@" + domain;
+</#if>
     }
 
     public static ${entity.builderClassName} a${entity.name}() {
@@ -48,9 +55,9 @@ public class ${entity.builderClassName} {
         return new ${entity.builderClassName}()
 <#list entity.nonPrimaryKeyAttributes as attribute>
 <#if attribute.unique>
-                .with${attribute.nameCapitalized}(${generator.generateUniqueValue(attribute)})
+                .with${attribute.nameCapitalized}(${generator.generateUniqueValue(attribute, "valid")})
 <#else>
-                .with${attribute.nameCapitalized}(${generator.generateValidValue(attribute)})
+                .with${attribute.nameCapitalized}(${generator.generateValidValue(attribute, "valid")})
 </#if>
 </#list><#list entity.requiredRelationships as relationship>
 <#if !relationship.collection>
@@ -62,10 +69,10 @@ public class ${entity.builderClassName} {
     public static ${entity.builderClassName} aDefault${entity.name}() {
         return new ${entity.builderClassName}()
 <#list entity.requiredAttributes as attribute>
-                .with${attribute.nameCapitalized}(${generator.generateValidValue(attribute)})
+                .with${attribute.nameCapitalized}(${generator.generateValidValue(attribute, "default")})
 </#list><#list entity.uniqueAttributes as attribute>
 <#if !attribute.primaryKey && attribute.nullable>
-                .with${attribute.nameCapitalized}(${generator.generateUniqueValue(attribute)})
+                .with${attribute.nameCapitalized}(${generator.generateUniqueValue(attribute, "default")})
 </#if>
 </#list><#list entity.requiredRelationships as relationship>
 <#if !relationship.collection>
@@ -77,7 +84,7 @@ public class ${entity.builderClassName} {
     public static ${entity.builderClassName} aMinimal${entity.name}() {
         return new ${entity.builderClassName}()
 <#list entity.requiredAttributes as attribute>
-                .with${attribute.nameCapitalized}(${generator.generateValidValue(attribute)})
+                .with${attribute.nameCapitalized}(${generator.generateValidValue(attribute, "minimal")})
 </#list><#list entity.requiredRelationships as relationship>
 <#if !relationship.collection>
                 .with${relationship.nameCapitalized}(${relationship.targetEntity}TestDataBuilder.aDefault${relationship.targetEntity}().build())
@@ -89,7 +96,7 @@ public class ${entity.builderClassName} {
         return new ${entity.builderClassName}()
 <#list entity.attributes as attribute>
 <#if !attribute.primaryKey>
-                .with${attribute.nameCapitalized}(${generator.generateValidValue(attribute)})
+                .with${attribute.nameCapitalized}(${generator.generateValidValue(attribute, "complete")})
 </#if>
 </#list>;
     }
@@ -162,7 +169,7 @@ public class ${entity.builderClassName} {
 </#if>
 <#if attribute.unique>
     public ${entity.builderClassName} withUnique${attribute.nameCapitalized}() {
-        this.${attribute.name} = ${generator.generateUniqueValue(attribute)};
+        this.${attribute.name} = ${generator.generateUniqueValue(attribute, "unique")};
         return this;
     }
 
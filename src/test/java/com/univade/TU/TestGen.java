@@ -1,12 +1,11 @@
 package com.univade.TU;
 
+import com.univade.TU.generator.model.BatchGenerationResult;
 import com.univade.TU.generator.model.EntityMetaModel;
 import com.univade.TU.generator.model.GeneratedTestResult;
 import com.univade.TU.generator.parser.EntityMetaModelParser;
-import com.univade.TU.generator.service.RepositoryTestGenerator;
+import com.univade.TU.generator.service.BatchGenerationEngine;
 import com.univade.TU.generator.service.SecurityConfigGenerator;
-import com.univade.TU.generator.service.ServiceTestGenerator;
-import com.univade.TU.generator.service.ControllerTestGenerator;
 import com.univade.TU.generator.service.FileWriterService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -40,13 +39,7 @@ class TestGen {
     );
 
     @Autowired
-    private RepositoryTestGenerator repositoryTestGenerator;
-
-    @Autowired
-    private ServiceTestGenerator serviceTestGenerator;
-
-    @Autowired
-    private ControllerTestGenerator controllerTestGenerator;
+    private BatchGenerationEngine batchGenerationEngine;
 
     @Autowired
     private FileWriterService fileWriterService;
@@ -93,7 +86,8 @@ class TestGen {
             Path controllerDir = Paths.get(baseTestPath, "controller");
             if (Files.exists(controllerDir)) {
                 Files.walk(controllerDir)
-                    .filter(path -> path.toString().endsWith("ControllerTest.java"))
+                    .filter(path -> path.toString().endsWith("ControllerTest.java")
+                            || path.toString().endsWith("ControllerIntegrationTest.java"))
                     .forEach(path -> {
                         try {
                             Files.deleteIfExists(path);
@@ -141,45 +135,42 @@ class TestGen {
             }
 
             allEntities.add(entityMetaModel);
+        }
 
-            GeneratedTestResult repositoryResult = repositoryTestGenerator.generateRepositoryTest(entityMetaModel);
-            GeneratedTestResult serviceResult = serviceTestGenerator.generateServiceTest(entityMetaModel);
-            GeneratedTestResult controllerResult = controllerTestGenerator.generateControllerTest(entityMetaModel);
-            GeneratedTestResult combinedResult = GeneratedTestResult.builder()
-                    .entityName(entityMetaModel.getName())
-                    .repositoryTestContent(repositoryResult.getRepositoryTestContent())
-                    .serviceTestContent(serviceResult.getServiceTestContent())
-                    .controllerTestContent(controllerResult.getControllerTestContent())
-                    .builderContent(repositoryResult.getBuilderContent())
-                    .build();
+        BatchGenerationResult batchResult = batchGenerationEngine.generate(allEntities);
 
-            combinedResult.getGeneratedFiles().addAll(repositoryResult.getGeneratedFiles());
-            combinedResult.getGeneratedFiles().addAll(serviceResult.getGeneratedFiles());
-            combinedResult.getGeneratedFiles().addAll(controllerResult.getGeneratedFiles());
+        for (int i = 0; i < allEntities.size(); i++) {
+            EntityMetaModel entityMetaModel = allEntities.get(i);
+            GeneratedTestResult combinedResult = batchResult.getResults().get(i);
 
             fileWriterService.writeGeneratedFiles(entityMetaModel, combinedResult);
 
-            assertThat(repositoryResult.getRepositoryTestContent()).isNotNull();
-            assertThat(serviceResult.getServiceTestContent()).isNotNull();
-            assertThat(controllerResult.getControllerTestContent()).isNotNull();
-            assertThat(repositoryResult.getBuilderContent()).isNotNull();
-
-            assertThat(repositoryResult.getRepositoryTestContent()).contains("@DataJpaTest");
-            assertThat(repositoryResult.getRepositoryTestContent()).contains("class " + entityMetaModel.getName() + "RepositoryTest");
-
-            assertThat(serviceResult.getServiceTestContent()).contains("@ExtendWith(MockitoExtension.class)");
-            assertThat(serviceResult.getServiceTestContent()).contains("class " + entityMetaModel.getName() + "ServiceTest");
-            assertThat(serviceResult.getServiceTestContent()).contains("@Mock");
-
-            assertThat(controllerResult.getControllerTestContent()).contains("@WebMvcTest");
-            assertThat(controllerResult.getControllerTestContent()).contains("@WithMockUser");
-            assertThat(controllerResult.getControllerTestContent()).contains("@AutoConfigureTestDatabase");
-            assertThat(controllerResult.getControllerTestContent()).contains("class " + entityMetaModel.getName() + "ControllerTest");
-            assertThat(controllerResult.getControllerTestContent()).contains("@MockBean");
-            assertThat(controllerResult.getControllerTestContent()).contains("import org.springframework.security.test.context.support.WithMockUser");
-            assertThat(serviceResult.getServiceTestContent()).contains("@InjectMocks");
-
-            
+            assertThat(combinedResult.getRepositoryTestContent()).isNotNull();
+            assertThat(combinedResult.getServiceTestContent()).isNotNull();
+            assertThat(combinedResult.getControllerTestContent()).isNotNull();
+            assertThat(combinedResult.getBuilderContent()).isNotNull();
+
+            assertThat(combinedResult.getRepositoryTestContent()).contains("extends AbstractRepositoryTest");
+            assertThat(combinedResult.getRepositoryTestContent()).contains("class " + entityMetaModel.getName() + "RepositoryTest");
+            assertThat(combinedResult.getRepositoryTestSupportContent()).contains("@DataJpaTest");
+            assertThat(combinedResult.getRepositoryTestSupportContent()).contains("@ActiveProfiles");
+
+            assertThat(combinedResult.getServiceTestContent()).contains("@ExtendWith(MockitoExtension.class)");
+            assertThat(combinedResult.getServiceTestContent()).contains("class " + entityMetaModel.getName() + "ServiceTest");
+            assertThat(combinedResult.getServiceTestContent()).contains("@Mock");
+
+            assertThat(combinedResult.getControllerTestContent()).contains("@Tag(\"fast\")");
+            assertThat(combinedResult.getControllerTestContent()).contains("class " + entityMetaModel.getName() + "ControllerTest");
+            assertThat(combinedResult.getControllerTestContent()).contains("MockMvcBuilders.standaloneSetup");
+            assertThat(combinedResult.getControllerTestContent()).contains("@InjectMocks");
+
+            assertThat(combinedResult.getControllerIntegrationTestContent()).contains("@WebMvcTest");
+            assertThat(combinedResult.getControllerIntegrationTestContent()).contains("@WithMockUser");
+            assertThat(combinedResult.getControllerIntegrationTestContent()).contains("@AutoConfigureTestDatabase");
+            assertThat(combinedResult.getControllerIntegrationTestContent()).contains("class " + entityMetaModel.getName() + "ControllerIntegrationTest");
+            assertThat(combinedResult.getControllerIntegrationTestContent()).contains("@MockBean");
+            assertThat(combinedResult.getControllerIntegrationTestContent()).contains("import org.springframework.security.test.context.support.WithMockUser");
+            assertThat(combinedResult.getServiceTestContent()).contains("@InjectMocks");
         }
 
         if (!allEntities.isEmpty()) {
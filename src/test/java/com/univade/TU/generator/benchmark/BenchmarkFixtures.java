@@ -0,0 +1,166 @@
+package com.univade.TU.generator.benchmark;
+
+import com.univade.TU.generator.config.FreemarkerConfig;
+import com.univade.TU.generator.model.AttributeMetaModel;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.RelationshipMetaModel;
+import com.univade.TU.generator.model.ValidationMetaModel;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import com.univade.TU.generator.service.BatchGenerationEngine;
+import com.univade.TU.generator.service.BenchmarkGenerator;
+import com.univade.TU.generator.service.ControllerTestGenerator;
+import com.univade.TU.generator.service.DtoGenerator;
+import com.univade.TU.generator.service.FileWriterService;
+import com.univade.TU.generator.service.LoadTestGenerator;
+import com.univade.TU.generator.service.RepositoryTestGenerator;
+import com.univade.TU.generator.service.ServiceTestGenerator;
+import com.univade.TU.generator.service.TestGeneratorService;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+final class BenchmarkFixtures {
+
+    static final String ENTITY_PACKAGE = "com.univade.TU.entity";
+
+    private static final String[] SYNTHETIC_TYPES = {"String", "Integer", "Long", "Boolean", "Double"};
+
+    private BenchmarkFixtures() {
+    }
+
+    record Pipeline(EntityMetaModelParser parser,
+                    TemplateRegistry templateRegistry,
+                    RepositoryTestGenerator repositoryTestGenerator,
+                    ServiceTestGenerator serviceTestGenerator,
+                    ControllerTestGenerator controllerTestGenerator,
+                    DtoGenerator dtoGenerator,
+                    TestGeneratorService testGeneratorService,
+                    BatchGenerationEngine batchGenerationEngine,
+                    FileWriterService fileWriterService) {
+    }
+
+    static Pipeline pipeline(Path outputRoot) {
+        TemplateRegistry templateRegistry = new TemplateRegistry(new FreemarkerConfig().freemarkerConfiguration(false), false);
+        EntityMetaModelParser parser = new EntityMetaModelParser();
+        DataModelFactory dataModelFactory = new DataModelFactory();
+        DtoGenerator dtoGenerator = new DtoGenerator(templateRegistry, parser, dataModelFactory);
+        RepositoryTestGenerator repositoryTestGenerator = new RepositoryTestGenerator(templateRegistry, parser, dataModelFactory);
+        ServiceTestGenerator serviceTestGenerator = new ServiceTestGenerator(templateRegistry, parser, dataModelFactory);
+        ControllerTestGenerator controllerTestGenerator = new ControllerTestGenerator(templateRegistry, parser, dataModelFactory, dtoGenerator);
+        FileWriterService fileWriterService = new FileWriterService(outputRoot);
+        TestGeneratorService testGeneratorService = new TestGeneratorService(templateRegistry, parser, fileWriterService,
+                dataModelFactory, repositoryTestGenerator, serviceTestGenerator, controllerTestGenerator, dtoGenerator,
+                new BenchmarkGenerator(templateRegistry, parser, dataModelFactory),
+                new LoadTestGenerator(templateRegistry, parser, dataModelFactory));
+        BatchGenerationEngine batchGenerationEngine = new BatchGenerationEngine(testGeneratorService, "fork-join", 0);
+
+        return new Pipeline(parser, templateRegistry, repositoryTestGenerator, serviceTestGenerator,
+                controllerTestGenerator, dtoGenerator, testGeneratorService, batchGenerationEngine, fileWriterService);
+    }
+
+    static String sampleJson(String entityName) {
+        String resource = "samples/" + entityName.toLowerCase(Locale.ROOT) + "-meta-model.json";
+        try (InputStream inputStream = new ClassPathResource(resource).getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + resource, e);
+        }
+    }
+
+    static Class<?> sampleEntityClass(String entityName) {
+        try {
+            return Class.forName(ENTITY_PACKAGE + "." + entityName);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown sample entity " + entityName, e);
+        }
+    }
+
+    static EntityMetaModel syntheticEntity(String name, int attributeCount) {
+        List<AttributeMetaModel> attributes = new ArrayList<>(attributeCount);
+        List<ValidationMetaModel> validations = new ArrayList<>();
+
+        attributes.add(AttributeMetaModel.builder()
+                .name("id")
+                .type("Long")
+                .columnName("id")
+                .primaryKey(true)
+                .generatedValue(true)
+                .generationType("IDENTITY")
+                .build());
+
+        for (int i = 1; i < attributeCount; i++) {
+            String type = SYNTHETIC_TYPES[i % SYNTHETIC_TYPES.length];
+            String attributeName = "field" + i;
+            boolean required = i % 3 == 0;
+
+            AttributeMetaModel.AttributeMetaModelBuilder attribute = AttributeMetaModel.builder()
+                    .name(attributeName)
+                    .type(type)
+                    .columnName("field_" + i)
+                    .nullable(!required)
+                    .unique(i % 17 == 0);
+
+            if ("String".equals(type)) {
+                attribute.maxLength(100).minLength(required ? 1 : null).notBlank(required);
+                if (required) {
+                    validations.add(ValidationMetaModel.builder()
+                            .attributeName(attributeName)
+                            .validationType("NotBlank")
+                            .message(attributeName + " cannot be blank")
+                            .build());
+                }
+                validations.add(ValidationMetaModel.builder()
+                        .attributeName(attributeName)
+                        .validationType("Size")
+                        .max(100)
+                        .message(attributeName + " is too long")
+                        .build());
+            } else if (required) {
+                validations.add(ValidationMetaModel.builder()
+                        .attributeName(attributeName)
+                        .validationType("NotNull")
+                        .message(attributeName + " cannot be null")
+                        .build());
+            }
+
+            attributes.add(attribute.build());
+        }
+
+        return EntityMetaModel.builder()
+                .name(name)
+                .packageName("com.univade.TU")
+                .tableName(name.toLowerCase(Locale.ROOT) + "s")
+                .attributes(attributes)
+                .validations(validations)
+                .build();
+    }
+
+    static List<EntityMetaModel> syntheticEntities(int entityCount, int attributeCount) {
+        List<EntityMetaModel> entities = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            EntityMetaModel entity = syntheticEntity("Synthetic" + i, attributeCount);
+            if (i > 0) {
+                entity.getRelationships().add(RelationshipMetaModel.builder()
+                        .name("parent")
+                        .type("ManyToOne")
+                        .targetEntity("Synthetic" + (i - 1))
+                        .joinColumn("parent_id")
+                        .fetchType("LAZY")
+                        .cascadeType("[]")
+                        .optional(true)
+                        .build());
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,88 @@
+package com.univade.TU.generator.benchmark;
+
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.FileWriteEntry;
+import com.univade.TU.generator.model.FileWriteReport;
+import com.univade.TU.generator.model.GeneratedArtifact;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileWriterBenchmark {
+
+    private Path outputRoot;
+    private BenchmarkFixtures.Pipeline pipeline;
+    private EntityMetaModel entity;
+    private GeneratedTestResult result;
+    private GeneratedTestResult alternateResult;
+    private boolean alternate;
+
+    @Setup
+    public void setUp() throws IOException {
+        outputRoot = Files.createTempDirectory("tu-file-writer-bench");
+        pipeline = BenchmarkFixtures.pipeline(outputRoot);
+        entity = pipeline.parser().parseFromJson(BenchmarkFixtures.sampleJson("User"));
+
+        result = pipeline.batchGenerationEngine().generate(List.of(entity)).getResults().get(0);
+        alternateResult = GeneratedTestResult.builder()
+                .entityName(result.getEntityName())
+                .repositoryTestContent(result.getRepositoryTestContent() + "\n")
+                .serviceTestContent(result.getServiceTestContent() + "\n")
+                .controllerTestContent(result.getControllerTestContent() + "\n")
+                .builderContent(result.getBuilderContent() + "\n")
+                .build();
+
+        pipeline.fileWriterService().writeGeneratedFiles(entity, result);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(outputRoot);
+    }
+
+    @Benchmark
+    public FileWriteReport writeUnchangedFiles() {
+        return pipeline.fileWriterService().writeGeneratedFiles(entity, result);
+    }
+
+    @Benchmark
+    public FileWriteReport writeChangedFiles() {
+        alternate = !alternate;
+        return pipeline.fileWriterService().writeGeneratedFiles(entity, alternate ? alternateResult : result);
+    }
+
+    @Benchmark
+    public FileWriteEntry writeStreamingControllerTest() {
+        String content = result.getControllerTestContent();
+        return pipeline.fileWriterService().writeStreaming(GeneratedArtifact.CONTROLLER_TEST, entity, writer -> {
+            try {
+                writer.write(content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.univade.TU.generator.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public final class GenerationBenchmarkRunner {
+
+    private static final String DEFAULT_INCLUDE = "com\\.univade\\.TU\\.generator\\..*Benchmark";
+    private static final String DEFAULT_RESULT_FILE = "target/jmh/generation-benchmarks.json";
+
+    private GenerationBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = args.length > 0 ? args[0] : DEFAULT_INCLUDE;
+        Path resultFile = Paths.get(System.getProperty("jmh.result", DEFAULT_RESULT_FILE));
+        Path resultDirectory = resultFile.toAbsolutePath().getParent();
+        if (resultDirectory != null) {
+            Files.createDirectories(resultDirectory);
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.toString())
+                .shouldFailOnError(true);
+        if (Boolean.getBoolean("jmh.gc")) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,59 @@
+package com.univade.TU.generator.benchmark;
+
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({"User", "Post", "Address", "Category", "Person"})
+    private String sample;
+
+    private BenchmarkFixtures.Pipeline pipeline;
+    private EntityMetaModel entity;
+
+    @Setup
+    public void setUp() {
+        pipeline = BenchmarkFixtures.pipeline(Paths.get("target", "jmh-output"));
+        entity = pipeline.parser().parseFromJson(BenchmarkFixtures.sampleJson(sample));
+    }
+
+    @Benchmark
+    public GeneratedTestResult generateRepositoryTest() {
+        return pipeline.repositoryTestGenerator().generateRepositoryTest(entity);
+    }
+
+    @Benchmark
+    public GeneratedTestResult generateServiceTest() {
+        return pipeline.serviceTestGenerator().generateServiceTest(entity);
+    }
+
+    @Benchmark
+    public GeneratedTestResult generateControllerTest() {
+        return pipeline.controllerTestGenerator().generateControllerTest(entity);
+    }
+
+    @Benchmark
+    public GeneratedTestResult generateDto() {
+        return pipeline.dtoGenerator().generateDto(entity);
+    }
+}
@@ -0,0 +1,50 @@
+package com.univade.TU.generator.benchmark;
+
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"User", "Post", "Address", "Category", "Person"})
+    private String sample;
+
+    private EntityMetaModelParser parser;
+    private String json;
+    private Class<?> entityClass;
+
+    @Setup
+    public void setUp() {
+        parser = new EntityMetaModelParser();
+        json = BenchmarkFixtures.sampleJson(sample);
+        entityClass = BenchmarkFixtures.sampleEntityClass(sample);
+    }
+
+    @Benchmark
+    public EntityMetaModel parseFromJson() {
+        return parser.parseFromJson(json);
+    }
+
+    @Benchmark
+    public EntityMetaModel parseFromAnnotations() {
+        return parser.parseFromAnnotations(entityClass);
+    }
+}
@@ -0,0 +1,58 @@
+package com.univade.TU.generator.benchmark;
+
+import com.univade.TU.generator.model.BatchGenerationResult;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.model.GeneratedTestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScaledGenerationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private BenchmarkFixtures.Pipeline pipeline;
+    private EntityMetaModel wideEntity;
+    private List<EntityMetaModel> entitySet;
+
+    @Setup
+    public void setUp() {
+        pipeline = BenchmarkFixtures.pipeline(Paths.get("target", "jmh-output"));
+        wideEntity = BenchmarkFixtures.syntheticEntity("Wide", size);
+        entitySet = BenchmarkFixtures.syntheticEntities(size, 10);
+    }
+
+    @Benchmark
+    public GeneratedTestResult wideEntityRepositoryTest() {
+        return pipeline.repositoryTestGenerator().generateRepositoryTest(wideEntity);
+    }
+
+    @Benchmark
+    public GeneratedTestResult wideEntityControllerTest() {
+        return pipeline.controllerTestGenerator().generateControllerTest(wideEntity);
+    }
+
+    @Benchmark
+    public BatchGenerationResult entitySetAllLayers() {
+        return pipeline.batchGenerationEngine().generate(entitySet);
+    }
+}
@@ -0,0 +1,57 @@
+package com.univade.TU.generator.benchmark;
+
+import com.univade.TU.generator.model.AttributeMetaModel;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import com.univade.TU.generator.util.TemplateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class TemplateUtilsBenchmark {
+
+    private TemplateUtils templateUtils;
+    private List<String> camelIdentifiers;
+
+    @Setup
+    public void setUp() {
+        templateUtils = new TemplateUtils();
+        EntityMetaModel entity = new EntityMetaModelParser().parseFromJson(BenchmarkFixtures.sampleJson("User"));
+        camelIdentifiers = entity.getAttributes().stream().map(AttributeMetaModel::getName).toList();
+    }
+
+    @Benchmark
+    public void camelToSnakeLegacy(Blackhole blackhole) {
+        for (String identifier : camelIdentifiers) {
+            blackhole.consume(legacyCamelToSnake(identifier));
+        }
+    }
+
+    @Benchmark
+    public void camelToSnakePrecompiled(Blackhole blackhole) {
+        for (String identifier : camelIdentifiers) {
+            blackhole.consume(templateUtils.camelToSnake(identifier));
+        }
+    }
+
+    private static String legacyCamelToSnake(String str) {
+        return str.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
+    }
+}
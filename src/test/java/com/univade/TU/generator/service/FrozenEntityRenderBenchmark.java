@@ -0,0 +1,86 @@
+package com.univade.TU.generator.service;
+
+import com.univade.TU.generator.config.FreemarkerConfig;
+import com.univade.TU.generator.model.EntityMetaModel;
+import com.univade.TU.generator.parser.EntityMetaModelParser;
+import com.univade.TU.generator.template.DataModelFactory;
+import com.univade.TU.generator.template.TemplateRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrozenEntityRenderBenchmark {
+
+    @Param({"User", "Post", "Person"})
+    private String sample;
+
+    private TemplateRegistry templateRegistry;
+    private Map<String, Object> mutableRepositoryModel;
+    private Map<String, Object> frozenRepositoryModel;
+    private Map<String, Object> mutableControllerModel;
+    private Map<String, Object> frozenControllerModel;
+
+    @Setup
+    public void setUp() throws IOException {
+        templateRegistry = new TemplateRegistry(new FreemarkerConfig().freemarkerConfiguration(false), false);
+        EntityMetaModelParser parser = new EntityMetaModelParser();
+        DataModelFactory dataModelFactory = new DataModelFactory();
+        DtoGenerator dtoGenerator = new DtoGenerator(templateRegistry, parser, dataModelFactory);
+        RepositoryTestGenerator repositoryTestGenerator = new RepositoryTestGenerator(templateRegistry, parser, dataModelFactory);
+        ControllerTestGenerator controllerTestGenerator = new ControllerTestGenerator(templateRegistry, parser, dataModelFactory, dtoGenerator);
+
+        String resource = "samples/" + sample.toLowerCase(Locale.ROOT) + "-meta-model.json";
+        EntityMetaModel mutable;
+        try (InputStream inputStream = new ClassPathResource(resource).getInputStream()) {
+            mutable = parser.parseFromJson(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        EntityMetaModel frozen = mutable.freeze();
+
+        mutableRepositoryModel = repositoryTestGenerator.createDataModel(mutable);
+        frozenRepositoryModel = repositoryTestGenerator.createDataModel(frozen);
+        mutableControllerModel = controllerTestGenerator.createControllerDataModel(mutable);
+        frozenControllerModel = controllerTestGenerator.createControllerDataModel(frozen);
+    }
+
+    @Benchmark
+    public String renderRepositoryTestMutable() {
+        return templateRegistry.render("repository/repository-test.ftl", mutableRepositoryModel);
+    }
+
+    @Benchmark
+    public String renderRepositoryTestFrozen() {
+        return templateRegistry.render("repository/repository-test.ftl", frozenRepositoryModel);
+    }
+
+    @Benchmark
+    public String renderControllerTestMutable() {
+        return templateRegistry.render("controller/controller-test.ftl", mutableControllerModel);
+    }
+
+    @Benchmark
+    public String renderControllerTestFrozen() {
+        return templateRegistry.render("controller/controller-test.ftl", frozenControllerModel);
+    }
+}